@@ -0,0 +1,33 @@
+#!/usr/bin/env sh
+# Usage: scripts/measure-startup.sh <command...>
+# Starts the command, waits for /actuator/health to report UP and prints time to ready and resident memory.
+set -eu
+
+URL="${HEALTH_URL:-http://localhost:8080/actuator/health}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-120}"
+
+start=$(date +%s%N)
+"$@" >/dev/null 2>&1 &
+pid=$!
+trap 'kill "$pid" 2>/dev/null || true' EXIT
+
+until curl -fs "$URL" 2>/dev/null | grep -q '"status":"UP"'; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+        echo "process exited before becoming ready" >&2
+        exit 1
+    fi
+    if [ $(( ($(date +%s%N) - start) / 1000000000 )) -ge "$TIMEOUT_SECONDS" ]; then
+        echo "not ready after ${TIMEOUT_SECONDS}s" >&2
+        exit 1
+    fi
+    sleep 0.05
+done
+ready=$(date +%s%N)
+
+rss_ready=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+for _ in $(seq 1 "${WARMUP_REQUESTS:-200}"); do
+    curl -fs "${LIST_URL:-http://localhost:8080/api/v1/posts}" >/dev/null || true
+done
+rss_warm=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+
+echo "ready_ms=$(( (ready - start) / 1000000 )) rss_ready_mb=$(( rss_ready / 1024 )) rss_after_requests_mb=$(( rss_warm / 1024 ))"
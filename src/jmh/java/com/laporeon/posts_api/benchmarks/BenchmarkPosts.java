@@ -0,0 +1,44 @@
+package com.laporeon.posts_api.benchmarks;
+
+import com.laporeon.posts_api.entities.Post;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkPosts {
+
+    private static final String TITLE = "Getting Started with Spring Boot";
+    private static final String DESCRIPTION = "A comprehensive guide to building REST APIs with Spring Boot framework.";
+    private static final String BODY = "Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications. "
+            + "Most Spring Boot applications need minimal Spring configuration, and they embed the web server directly.";
+
+    private BenchmarkPosts() {
+    }
+
+    static List<Post> posts(int count) {
+        Instant base = Instant.parse("2025-10-01T00:00:00Z");
+        List<Post> posts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Instant createdAt = base.plusSeconds(i);
+            posts.add(Post.builder()
+                          .id(new ObjectId().toHexString())
+                          .title(TITLE + " " + i)
+                          .description(DESCRIPTION)
+                          .body(BODY)
+                          .createdAt(createdAt)
+                          .updatedAt(createdAt)
+                          .build());
+        }
+        return posts;
+    }
+
+    static Page<Post> page(int size) {
+        return new PageImpl<>(posts(size), PageRequest.of(0, size, Sort.by("createdAt")), size * 100L);
+    }
+}
@@ -0,0 +1,90 @@
+package com.laporeon.posts_api.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.laporeon.posts_api.controllers.PostController;
+import com.laporeon.posts_api.dto.request.PostRequestDTO;
+import com.laporeon.posts_api.dto.response.ErrorResponseDTO;
+import com.laporeon.posts_api.dto.response.ValidationErrorResponseDTO;
+import com.laporeon.posts_api.exceptions.GlobalExceptionHandler;
+import com.laporeon.posts_api.exceptions.PostNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExceptionHandlerBenchmark {
+
+    private static final String POST_ID = "68e2f0c1a4b5c6d7e8f90123";
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private ObjectWriter writer;
+
+    private PostNotFoundException notFound;
+
+    private MethodArgumentNotValidException invalidRequest;
+
+    @Setup
+    public void setUp() throws Exception {
+        writer = Jackson2ObjectMapperBuilder.json()
+                                            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                                            .build()
+                                            .writer();
+
+        PostRequestDTO dto = new PostRequestDTO("short", "too short", "", null);
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(dto, "postRequestDTO");
+        bindingResult.addError(new FieldError("postRequestDTO", "title", "Title must be between 10 and 100 characters long."));
+        bindingResult.addError(new FieldError("postRequestDTO", "description", "Description must be between 20 and 150 characters long."));
+        bindingResult.addError(new FieldError("postRequestDTO", "body", "Body content is required."));
+
+        MethodParameter parameter = new MethodParameter(PostController.class.getMethod("create", PostRequestDTO.class), 0);
+        invalidRequest = new MethodArgumentNotValidException(parameter, bindingResult);
+        notFound = new PostNotFoundException(POST_ID);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponseDTO> handleNotFound() {
+        return handler.handlePostNotFoundException(notFound);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponseDTO> throwAndHandleNotFound() {
+        return handler.handlePostNotFoundException(new PostNotFoundException(POST_ID));
+    }
+
+    @Benchmark
+    public ResponseEntity<ValidationErrorResponseDTO> handleValidationError() {
+        return handler.handleValidationException(invalidRequest);
+    }
+
+    @Benchmark
+    public byte[] handleAndWriteNotFound() throws Exception {
+        return writer.writeValueAsBytes(handler.handlePostNotFoundException(notFound).getBody());
+    }
+
+    @Benchmark
+    public byte[] handleAndWriteValidationError() throws Exception {
+        return writer.writeValueAsBytes(handler.handleValidationException(invalidRequest).getBody());
+    }
+}
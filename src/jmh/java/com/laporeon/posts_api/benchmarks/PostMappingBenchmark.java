@@ -0,0 +1,66 @@
+package com.laporeon.posts_api.benchmarks;
+
+import com.laporeon.posts_api.dto.response.PageResponseDTO;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.mappers.PageMapper;
+import com.laporeon.posts_api.mappers.PostMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostMappingBenchmark {
+
+    @Param({"10", "50", "100"})
+    private int pageSize;
+
+    private final PostMapper postMapper = new PostMapper();
+
+    private final PageMapper pageMapper = new PageMapper(postMapper);
+
+    private Post post;
+
+    private Page<Post> page;
+
+    private SliceImpl<Post> slice;
+
+    @Setup
+    public void setUp() {
+        page = BenchmarkPosts.page(pageSize);
+        slice = new SliceImpl<>(page.getContent(), page.getPageable(), true);
+        post = page.getContent().get(0);
+    }
+
+    @Benchmark
+    public PostResponseDTO postToDTO() {
+        return postMapper.toDTO(post);
+    }
+
+    @Benchmark
+    public PageResponseDTO<PostResponseDTO> pageToDTO() {
+        return pageMapper.toDTO(page);
+    }
+
+    @Benchmark
+    public PageResponseDTO<PostResponseDTO> sliceToDTO() {
+        return pageMapper.toDTO(slice);
+    }
+}
@@ -0,0 +1,67 @@
+package com.laporeon.posts_api.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.laporeon.posts_api.dto.response.PageResponseDTO;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.mappers.PageMapper;
+import com.laporeon.posts_api.mappers.PostMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostSerializationBenchmark {
+
+    @Param({"10", "50", "100"})
+    private int pageSize;
+
+    private final PageMapper pageMapper = new PageMapper(new PostMapper());
+
+    private ObjectWriter pageWriter;
+
+    private Page<Post> page;
+
+    private PageResponseDTO<PostResponseDTO> pageDTO;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                                                               .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                                                               .build();
+        pageWriter = objectMapper.writerFor(new TypeReference<PageResponseDTO<PostResponseDTO>>() {});
+
+        page = BenchmarkPosts.page(pageSize);
+        pageDTO = pageMapper.toDTO(page);
+    }
+
+    @Benchmark
+    public byte[] writePage() throws Exception {
+        return pageWriter.writeValueAsBytes(pageDTO);
+    }
+
+    @Benchmark
+    public byte[] mapAndWritePage() throws Exception {
+        return pageWriter.writeValueAsBytes(pageMapper.toDTO(page));
+    }
+}
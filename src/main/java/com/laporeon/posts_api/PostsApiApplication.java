@@ -1,9 +1,14 @@
 package com.laporeon.posts_api;
 
+import com.laporeon.posts_api.config.NativeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@ImportRuntimeHints(NativeHints.class)
 public class PostsApiApplication {
 
 	public static void main(String[] args) {
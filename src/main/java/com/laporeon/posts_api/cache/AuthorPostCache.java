@@ -0,0 +1,146 @@
+package com.laporeon.posts_api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.laporeon.posts_api.config.AuthorProperties;
+import com.laporeon.posts_api.dto.response.CursorPageResponseDTO;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AuthorPostCache {
+
+    private final boolean enabled;
+
+    private final int pageSize;
+
+    private final Cache<PageKey, CursorPageResponseDTO<PostResponseDTO>> pages;
+
+    private final Cache<String, AtomicLong> counts;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public AuthorPostCache(AuthorProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.cacheEnabled();
+        this.pageSize = properties.pageSize();
+        this.pages = Caffeine.newBuilder()
+                             .maximumSize(properties.maxCachedAuthors() * Sort.Direction.values().length)
+                             .expireAfterWrite(properties.pageTtl())
+                             .build();
+        this.counts = Caffeine.newBuilder()
+                              .maximumSize(properties.maxCachedAuthors())
+                              .expireAfterWrite(properties.countTtl())
+                              .build();
+
+        this.hits = Counter.builder("posts.author.pages")
+                           .description("Author first pages served from the per-author cache")
+                           .tag("outcome", "hit")
+                           .register(meterRegistry);
+        this.misses = Counter.builder("posts.author.pages")
+                             .description("Author first pages loaded from the author index")
+                             .tag("outcome", "miss")
+                             .register(meterRegistry);
+    }
+
+    public CursorPageResponseDTO<PostResponseDTO> firstPage(String author,
+                                                            Sort.Direction direction,
+                                                            int size,
+                                                            Supplier<CursorPageResponseDTO<PostResponseDTO>> loader) {
+        if (!enabled || size != pageSize) {
+            return loader.get();
+        }
+
+        PageKey key = new PageKey(author, direction);
+        CursorPageResponseDTO<PostResponseDTO> cached = pages.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        long ticket = invalidations.get();
+        CursorPageResponseDTO<PostResponseDTO> page = loader.get();
+        put(pages, key, page, ticket);
+        return page;
+    }
+
+    public long count(String author, LongSupplier loader) {
+        if (!enabled) {
+            return loader.getAsLong();
+        }
+
+        AtomicLong cached = counts.getIfPresent(author);
+        if (cached != null) {
+            return cached.get();
+        }
+
+        long ticket = invalidations.get();
+        long count = loader.getAsLong();
+        put(counts, author, new AtomicLong(count), ticket);
+        return count;
+    }
+
+    @EventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        invalidations.incrementAndGet();
+        if (event.post() == null) {
+            pages.invalidateAll();
+            counts.invalidateAll();
+            return;
+        }
+
+        String author = event.post().getAuthor();
+        if (author == null) {
+            return;
+        }
+
+        pages.invalidateAll(List.of(new PageKey(author, Sort.Direction.ASC), new PageKey(author, Sort.Direction.DESC)));
+        switch (event.type()) {
+            case CREATED -> adjust(author, 1);
+            case DELETED -> adjust(author, -1);
+            default -> {
+            }
+        }
+    }
+
+    private <K, V> void put(Cache<K, V> cache, K key, V value, long ticket) {
+        if (ticket != invalidations.get()) {
+            return;
+        }
+
+        cache.put(key, value);
+        if (ticket != invalidations.get()) {
+            cache.invalidate(key);
+        }
+    }
+
+    private void adjust(String author, long delta) {
+        AtomicLong count = counts.getIfPresent(author);
+        if (count != null) {
+            count.updateAndGet(current -> Math.max(0, current + delta));
+        }
+    }
+
+    private record PageKey(String author, Sort.Direction direction) {
+    }
+}
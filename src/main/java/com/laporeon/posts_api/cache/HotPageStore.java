@@ -0,0 +1,267 @@
+package com.laporeon.posts_api.cache;
+
+import com.laporeon.posts_api.config.HotPagesProperties;
+import com.laporeon.posts_api.dto.response.PageResponseDTO;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.mappers.PageMapper;
+import com.laporeon.posts_api.repositories.PostRepository;
+import com.laporeon.posts_api.utils.PostCursor;
+import com.laporeon.posts_api.utils.PostSortField;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class HotPageStore {
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final Comparator<Comparable> NULLS_FIRST = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private final boolean enabled;
+
+    private final int pages;
+
+    private final int pageSize;
+
+    private final long ttlNanos;
+
+    private final PostRepository postRepository;
+
+    private final PageMapper pageMapper;
+
+    private final Map<Sort, Window> windows = new HashMap<>();
+
+    private final Counter hits;
+
+    private final Counter refills;
+
+    public HotPageStore(HotPagesProperties properties,
+                        PostRepository postRepository,
+                        PageMapper pageMapper,
+                        MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.pages = properties.pages();
+        this.pageSize = properties.pageSize();
+        this.ttlNanos = properties.ttl().toNanos();
+        this.postRepository = postRepository;
+        this.pageMapper = pageMapper;
+
+        for (String sort : properties.sorts()) {
+            String[] parts = sort.split(":", 2);
+            PostSortField field = PostSortField.fromProperty(parts[0].trim());
+            Sort.Direction direction = parts.length > 1 ? Sort.Direction.fromString(parts[1].trim()) : Sort.Direction.ASC;
+            windows.put(field.sort(direction), new Window(field, direction));
+        }
+
+        this.hits = Counter.builder("posts.hot.pages.hits")
+                           .description("List requests served from a precomputed hot page")
+                           .register(meterRegistry);
+        this.refills = Counter.builder("posts.hot.pages.refills")
+                              .description("Queries run to load or top up a hot page window")
+                              .register(meterRegistry);
+    }
+
+    public PageResponseDTO<PostResponseDTO> find(Pageable pageable) {
+        if (!enabled || pageable.isUnpaged()
+                || pageable.getPageSize() != pageSize
+                || pageable.getPageNumber() >= pages) {
+            return null;
+        }
+
+        Window window = windows.get(pageable.getSort());
+        if (window == null) {
+            return null;
+        }
+
+        hits.increment();
+        return window.page(pageable.getPageNumber());
+    }
+
+    @EventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        windows.values().forEach(window -> window.apply(event));
+    }
+
+    private final class Window {
+
+        private final PostSortField field;
+
+        private final Sort.Direction direction;
+
+        private final TreeSet<Post> entries;
+
+        private final Map<String, Post> members = new HashMap<>();
+
+        private final PageResponseDTO<PostResponseDTO>[] rendered;
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private boolean exhausted;
+
+        private boolean populated;
+
+        private long populatedAt;
+
+        @SuppressWarnings("unchecked")
+        private Window(PostSortField field, Sort.Direction direction) {
+            this.field = field;
+            this.direction = direction;
+            this.rendered = new PageResponseDTO[pages];
+
+            Comparator<Post> ascending = (left, right) -> {
+                int byValue = compare(field.valueOf(left), field.valueOf(right));
+                return byValue != 0 ? byValue : left.getId().compareTo(right.getId());
+            };
+            this.entries = new TreeSet<>(direction.isAscending() ? ascending : ascending.reversed());
+        }
+
+        private PageResponseDTO<PostResponseDTO> page(int number) {
+            lock.readLock().lock();
+            try {
+                if (rendered[number] != null && !expired()) {
+                    return rendered[number];
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            lock.writeLock().lock();
+            try {
+                if (expired()) {
+                    reset();
+                }
+                fill();
+                if (rendered[number] == null) {
+                    rendered[number] = render(number);
+                }
+                return rendered[number];
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void apply(PostChangedEvent event) {
+            lock.writeLock().lock();
+            try {
+                Post previous = members.remove(event.id());
+                if (previous != null) {
+                    invalidateFrom(entries.headSet(previous).size());
+                    entries.remove(previous);
+                }
+
+                if (event.type() != PostChangedEvent.ChangeType.DELETED && belongs(event.post())) {
+                    Post post = event.post().toBuilder().build();
+                    entries.add(post);
+                    members.put(post.getId(), post);
+                    invalidateFrom(entries.headSet(post).size());
+                    trim();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private boolean belongs(Post post) {
+            if (exhausted) {
+                return true;
+            }
+            return !entries.isEmpty() && entries.comparator().compare(post, entries.last()) < 0;
+        }
+
+        private void fill() {
+            int capacity = capacity();
+            if (exhausted || entries.size() >= capacity) {
+                return;
+            }
+
+            PostCursor cursor = entries.isEmpty()
+                    ? PostCursor.first(field, direction)
+                    : PostCursor.first(field, direction).after(entries.last());
+            int missing = capacity - entries.size();
+            List<Post> loaded = postRepository.findAfter(cursor, missing);
+            refills.increment();
+
+            invalidateFrom(entries.size());
+            for (Post post : loaded) {
+                Post previous = members.put(post.getId(), post);
+                if (previous != null) {
+                    entries.remove(previous);
+                }
+                entries.add(post);
+            }
+            exhausted = loaded.size() < missing;
+            trim();
+
+            if (!populated) {
+                populated = true;
+                populatedAt = System.nanoTime();
+            }
+        }
+
+        private boolean expired() {
+            return populated && System.nanoTime() - populatedAt >= ttlNanos;
+        }
+
+        private void reset() {
+            entries.clear();
+            members.clear();
+            Arrays.fill(rendered, null);
+            exhausted = false;
+            populated = false;
+        }
+
+        private void trim() {
+            while (entries.size() > capacity()) {
+                members.remove(entries.pollLast().getId());
+                exhausted = false;
+            }
+        }
+
+        private PageResponseDTO<PostResponseDTO> render(int number) {
+            List<Post> ordered = new ArrayList<>(entries);
+            int from = Math.min(number * pageSize, ordered.size());
+            int to = Math.min(from + pageSize, ordered.size());
+            boolean hasNext = ordered.size() > to;
+
+            Pageable pageable = PageRequest.of(number, pageSize, field.sort(direction));
+            return pageMapper.toDTO(new SliceImpl<>(List.copyOf(ordered.subList(from, to)), pageable, hasNext));
+        }
+
+        private void invalidateFrom(int position) {
+            int first = Math.min(Math.max(position - 1, 0) / pageSize, pages);
+            Arrays.fill(rendered, first, pages, null);
+        }
+
+        private int capacity() {
+            return pages * pageSize + 1;
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static int compare(Object left, Object right) {
+        return NULLS_FIRST.compare((Comparable) left, (Comparable) right);
+    }
+}
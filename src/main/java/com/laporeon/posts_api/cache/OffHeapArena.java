@@ -0,0 +1,165 @@
+package com.laporeon.posts_api.cache;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class OffHeapArena {
+
+    public record Stats(long hits, long misses, long evictions, long entries, long usedBytes) {
+    }
+
+    private record Slot(String key, int offset, int length, long expiresAt) {
+    }
+
+    private ByteBuffer buffer;
+
+    private final int capacity;
+
+    private final long ttlNanos;
+
+    private final Map<String, Slot> index = new HashMap<>();
+
+    private final Deque<Slot> allocations = new ArrayDeque<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private int position;
+
+    private long usedBytes;
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    public OffHeapArena(int capacity, long ttlNanos) {
+        this.capacity = capacity;
+        this.ttlNanos = ttlNanos;
+    }
+
+    public boolean put(String key, byte[] value) {
+        int length = value.length;
+        if (length == 0 || length > capacity) {
+            return false;
+        }
+
+        lock.lock();
+        try {
+            if (buffer == null) {
+                buffer = ByteBuffer.allocateDirect(capacity);
+            }
+            release(index.remove(key));
+            int offset = allocate(length);
+            buffer.put(offset, value);
+
+            Slot slot = new Slot(key, offset, length, System.nanoTime() + ttlNanos);
+            allocations.addLast(slot);
+            index.put(key, slot);
+            usedBytes += length;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public byte[] get(String key) {
+        lock.lock();
+        try {
+            Slot slot = index.get(key);
+            if (slot == null) {
+                misses++;
+                return null;
+            }
+            if (System.nanoTime() - slot.expiresAt() > 0) {
+                release(index.remove(key));
+                misses++;
+                return null;
+            }
+
+            byte[] value = new byte[slot.length()];
+            buffer.get(slot.offset(), value);
+            hits++;
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remove(String key) {
+        lock.lock();
+        try {
+            release(index.remove(key));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            index.clear();
+            allocations.clear();
+            position = 0;
+            usedBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isAllocated() {
+        lock.lock();
+        try {
+            return buffer != null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(hits, misses, evictions, index.size(), usedBytes);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int allocate(int length) {
+        if (position + length > capacity) {
+            while (!allocations.isEmpty() && allocations.peekFirst().offset() >= position) {
+                evictOldest();
+            }
+            position = 0;
+        }
+
+        while (!allocations.isEmpty()
+                && allocations.peekFirst().offset() >= position
+                && allocations.peekFirst().offset() < position + length) {
+            evictOldest();
+        }
+
+        int offset = position;
+        position += length;
+        return offset;
+    }
+
+    private void evictOldest() {
+        Slot oldest = allocations.pollFirst();
+        if (index.get(oldest.key()) == oldest) {
+            index.remove(oldest.key());
+            usedBytes -= oldest.length();
+            evictions++;
+        }
+    }
+
+    private void release(Slot slot) {
+        if (slot != null) {
+            usedBytes -= slot.length();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.laporeon.posts_api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.laporeon.posts_api.config.CacheProperties;
+import com.laporeon.posts_api.dto.response.CacheStatsDTO;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PostCache {
+
+    private final boolean enabled;
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, PostResponseDTO> heap;
+
+    private final OffHeapArena offHeap;
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PostCache(CacheProperties properties, ObjectMapper objectMapper) {
+        this.enabled = properties.enabled();
+        this.objectMapper = objectMapper;
+        this.heap = Caffeine.newBuilder()
+                            .maximumSize(properties.heapMaxEntries())
+                            .expireAfterWrite(properties.heapTtl())
+                            .executor(Runnable::run)
+                            .evictionListener(this::demote)
+                            .recordStats()
+                            .build();
+        this.offHeap = new OffHeapArena(
+                Math.toIntExact(properties.offHeapCapacity().toBytes()),
+                properties.offHeapTtl().toNanos());
+    }
+
+    public PostResponseDTO get(String id) {
+        if (!enabled) {
+            return null;
+        }
+
+        long ticket = invalidations.get();
+        PostResponseDTO post = heap.getIfPresent(id);
+        if (post != null) {
+            return post;
+        }
+
+        byte[] serialized = offHeap.get(id);
+        if (serialized == null) {
+            return null;
+        }
+
+        try {
+            post = objectMapper.readValue(serialized, PostResponseDTO.class);
+        } catch (IOException ex) {
+            log.warn("Discarding unreadable cache entry for post {}: {}", id, ex.getMessage());
+            offHeap.remove(id);
+            return null;
+        }
+
+        put(id, post, ticket);
+        return post;
+    }
+
+    public long ticket() {
+        return invalidations.get();
+    }
+
+    public void put(String id, PostResponseDTO post, long ticket) {
+        if (!enabled || ticket != invalidations.get()) {
+            return;
+        }
+
+        heap.put(id, post);
+        if (ticket != invalidations.get()) {
+            heap.invalidate(id);
+        }
+    }
+
+    public void invalidate(String id) {
+        invalidations.incrementAndGet();
+        heap.invalidate(id);
+        offHeap.remove(id);
+    }
+
+    @EventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() != PostChangedEvent.ChangeType.CREATED) {
+            invalidate(event.id());
+        }
+    }
+
+    public CacheStatsDTO stats() {
+        CacheStats heapStats = heap.stats();
+        OffHeapArena.Stats offHeapStats = offHeap.stats();
+
+        return new CacheStatsDTO(
+                heapStats.hitCount(),
+                heapStats.missCount(),
+                heapStats.evictionCount(),
+                heap.estimatedSize(),
+                offHeapStats.hits(),
+                offHeapStats.misses(),
+                offHeapStats.evictions(),
+                offHeapStats.entries(),
+                offHeapStats.usedBytes()
+        );
+    }
+
+    void heapCleanUp() {
+        heap.cleanUp();
+    }
+
+    boolean isOffHeapAllocated() {
+        return offHeap.isAllocated();
+    }
+
+    private void demote(String id, PostResponseDTO post, RemovalCause cause) {
+        if (id == null || post == null || cause != RemovalCause.SIZE) {
+            return;
+        }
+
+        long ticket = invalidations.get();
+        try {
+            offHeap.put(id, objectMapper.writeValueAsBytes(post));
+            if (ticket != invalidations.get()) {
+                offHeap.remove(id);
+            }
+        } catch (JsonProcessingException ex) {
+            log.warn("Could not move post {} to the off-heap cache: {}", id, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.laporeon.posts_api.cache;
+
+import com.laporeon.posts_api.config.BackgroundThreads;
+import com.laporeon.posts_api.config.LookupFilterProperties;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.repositories.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PostLookupFilter implements AutoCloseable {
+
+    private final LookupFilterProperties properties;
+
+    private final PostRepository postRepository;
+
+    private final BackgroundThreads backgroundThreads;
+
+    private final Counter malformed;
+
+    private final Counter rejected;
+
+    private final Counter passed;
+
+    private final Counter falsePositives;
+
+    private final Counter missed;
+
+    private final ScheduledExecutorService rebuilds;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private final AtomicLong changes = new AtomicLong();
+
+    private volatile BloomFilter filter;
+
+    private volatile BloomFilter next;
+
+    private volatile long headroom;
+
+    public PostLookupFilter(LookupFilterProperties properties,
+                            PostRepository postRepository,
+                            BackgroundThreads backgroundThreads,
+                            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.postRepository = postRepository;
+        this.backgroundThreads = backgroundThreads;
+        this.malformed = outcome(meterRegistry, "malformed", "Lookups rejected because the id is not a valid ObjectId");
+        this.rejected = outcome(meterRegistry, "rejected", "Lookups rejected because the filter has never seen the id");
+        this.passed = outcome(meterRegistry, "passed", "Lookups the filter let through to the database");
+        this.falsePositives = outcome(meterRegistry, "false-positive", "Lookups let through that found no post");
+        this.missed = outcome(meterRegistry, "missed", "Lookups the filter would have rejected that found a post");
+        this.rebuilds = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("post-lookup-filter-schedule").daemon().factory());
+    }
+
+    public boolean isReady() {
+        return filter != null;
+    }
+
+    public boolean isAbsent(String id) {
+        if (!ObjectId.isValid(id)) {
+            malformed.increment();
+            return true;
+        }
+
+        BloomFilter active = filter;
+        if (!properties.enabled() || active == null) {
+            return false;
+        }
+
+        if (active.mightContain(id)) {
+            passed.increment();
+            return false;
+        }
+
+        if (properties.confirmMisses() && postRepository.existsById(id)) {
+            active.add(id);
+            missed.increment();
+            return false;
+        }
+
+        rejected.increment();
+        return true;
+    }
+
+    public void recordFalsePositive() {
+        if (filter != null) {
+            falsePositives.increment();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.enabled()) {
+            long interval = properties.rebuildInterval().toMillis();
+            rebuilds.scheduleAtFixedRate(this::scheduleRebuild, 0, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @EventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (!properties.enabled() || event.type() == PostChangedEvent.ChangeType.UPDATED) {
+            return;
+        }
+
+        if (event.type() == PostChangedEvent.ChangeType.CREATED) {
+            BloomFilter building = next;
+            if (building != null) {
+                building.add(event.id());
+            }
+            BloomFilter active = filter;
+            if (active != null) {
+                active.add(event.id());
+            }
+        }
+
+        if (filter != null && changes.incrementAndGet() > headroom) {
+            scheduleRebuild();
+        }
+    }
+
+    private void scheduleRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        backgroundThreads.start("post-lookup-filter", this::rebuild);
+    }
+
+    void rebuild() {
+        long capacity = Math.max(properties.minCapacity(), postRepository.estimatedCount() * 2);
+        BloomFilter building = new BloomFilter(capacity, properties.falsePositiveRate());
+        next = building;
+
+        try (Stream<String> ids = postRepository.streamIds()) {
+            long count = ids.mapToLong(id -> {
+                building.add(id);
+                return 1;
+            }).sum();
+            changes.set(0);
+            headroom = capacity - count;
+            filter = building;
+            log.info("Lookup filter built with {} post ids ({} bits, {} hash functions)",
+                     count, building.bitSize(), building.hashFunctions());
+        } catch (RuntimeException ex) {
+            log.warn("Could not build the lookup filter, every lookup goes to the database: {}", ex.getMessage());
+        } finally {
+            next = null;
+            rebuilding.set(false);
+        }
+    }
+
+    @Override
+    public void close() {
+        rebuilds.shutdownNow();
+    }
+
+    private static Counter outcome(MeterRegistry meterRegistry, String outcome, String description) {
+        return Counter.builder("posts.lookup.filter")
+                      .description(description)
+                      .tag("outcome", outcome)
+                      .register(meterRegistry);
+    }
+}
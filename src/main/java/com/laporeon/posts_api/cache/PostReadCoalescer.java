@@ -0,0 +1,46 @@
+package com.laporeon.posts_api.cache;
+
+import com.laporeon.posts_api.dto.response.PageResponseDTO;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.utils.CountMode;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PostReadCoalescer {
+
+    private final SingleFlight<String, PostResponseDTO> posts;
+
+    private final SingleFlight<PageKey, PageResponseDTO<PostResponseDTO>> pages;
+
+    public PostReadCoalescer(MeterRegistry meterRegistry) {
+        this.posts = new SingleFlight<>("findById", meterRegistry);
+        this.pages = new SingleFlight<>("listPosts", meterRegistry);
+    }
+
+    public PostResponseDTO findById(String id, Supplier<PostResponseDTO> loader) {
+        return posts.execute(id, loader);
+    }
+
+    public PageResponseDTO<PostResponseDTO> listPosts(Pageable pageable,
+                                                      CountMode countMode,
+                                                      Supplier<PageResponseDTO<PostResponseDTO>> loader) {
+        return pages.execute(new PageKey(pageable, countMode), loader);
+    }
+
+    @EventListener
+    public void onPostChanged(PostChangedEvent event) {
+        posts.forget(event.id());
+        pages.forgetAll();
+    }
+
+    private record PageKey(Pageable pageable, CountMode countMode) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.laporeon.posts_api.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class SingleFlight<K, V> {
+
+    private final Map<K, Flight<V>> flights = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+
+    private final Counter collapsed;
+
+    private final DistributionSummary followers;
+
+    public SingleFlight(String operation, MeterRegistry meterRegistry) {
+        this.executed = Counter.builder("posts.coalesced.calls")
+                               .description("Reads that ran their own query")
+                               .tag("operation", operation)
+                               .tag("outcome", "executed")
+                               .register(meterRegistry);
+        this.collapsed = Counter.builder("posts.coalesced.calls")
+                                .description("Reads that shared the result of an in-flight query")
+                                .tag("operation", operation)
+                                .tag("outcome", "collapsed")
+                                .register(meterRegistry);
+        this.followers = DistributionSummary.builder("posts.coalesced.followers")
+                                            .description("Callers collapsed into a single query for one key")
+                                            .tag("operation", operation)
+                                            .register(meterRegistry);
+        Gauge.builder("posts.coalesced.in.flight", flights, Map::size)
+             .description("Keys with a query in flight")
+             .tag("operation", operation)
+             .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        Flight<V> flight = new Flight<>();
+        Flight<V> inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            inFlight.followers.incrementAndGet();
+            collapsed.increment();
+            return await(inFlight.result);
+        }
+
+        executed.increment();
+        try {
+            V value = loader.get();
+            flight.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            flight.result.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            flights.remove(key, flight);
+            followers.record(flight.followers.get());
+        }
+    }
+
+    public void forget(K key) {
+        flights.remove(key);
+    }
+
+    public void forgetAll() {
+        flights.clear();
+    }
+
+    private V await(CompletableFuture<V> result) {
+        try {
+            return result.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static final class Flight<V> {
+
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+
+        private final AtomicInteger followers = new AtomicInteger();
+    }
+}
@@ -0,0 +1,14 @@
+package com.laporeon.posts_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "posts.authors")
+public record AuthorProperties(@DefaultValue("true") boolean cacheEnabled,
+                               @DefaultValue("10000") long maxCachedAuthors,
+                               @DefaultValue("10") int pageSize,
+                               @DefaultValue("1m") Duration countTtl,
+                               @DefaultValue("1m") Duration pageTtl) {
+}
@@ -0,0 +1,15 @@
+package com.laporeon.posts_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "posts.cache")
+public record CacheProperties(@DefaultValue("true") boolean enabled,
+                              @DefaultValue("10000") long heapMaxEntries,
+                              @DefaultValue("5m") Duration heapTtl,
+                              @DefaultValue("64MB") DataSize offHeapCapacity,
+                              @DefaultValue("30m") Duration offHeapTtl) {
+}
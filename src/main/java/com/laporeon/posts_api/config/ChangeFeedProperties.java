@@ -0,0 +1,13 @@
+package com.laporeon.posts_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "posts.changes")
+public record ChangeFeedProperties(@DefaultValue("30d") Duration tombstoneRetention,
+                                   @DefaultValue("1s") Duration settleTime,
+                                   @DefaultValue("100") int defaultPageSize,
+                                   @DefaultValue("1000") int maxPageSize) {
+}
@@ -0,0 +1,10 @@
+package com.laporeon.posts_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "posts.count")
+public record CountProperties(@DefaultValue("30s") Duration estimateTtl) {
+}
@@ -0,0 +1,8 @@
+package com.laporeon.posts_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "posts.export")
+public record ExportProperties(@DefaultValue("500") int batchSize) {
+}
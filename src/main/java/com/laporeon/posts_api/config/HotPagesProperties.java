@@ -0,0 +1,15 @@
+package com.laporeon.posts_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "posts.hot-pages")
+public record HotPagesProperties(@DefaultValue("true") boolean enabled,
+                                 @DefaultValue("3") int pages,
+                                 @DefaultValue("10") int pageSize,
+                                 @DefaultValue({"title:ASC", "createdAt:DESC"}) List<String> sorts,
+                                 @DefaultValue("5m") Duration ttl) {
+}
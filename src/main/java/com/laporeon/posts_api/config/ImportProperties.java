@@ -0,0 +1,10 @@
+package com.laporeon.posts_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "posts.import")
+public record ImportProperties(@DefaultValue("500") int batchSize,
+                               @DefaultValue("2") int maxInFlightBatches,
+                               @DefaultValue("1000") int maxReportedErrors) {
+}
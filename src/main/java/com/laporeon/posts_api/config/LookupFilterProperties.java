@@ -0,0 +1,14 @@
+package com.laporeon.posts_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "posts.lookup-filter")
+public record LookupFilterProperties(@DefaultValue("false") boolean enabled,
+                                     @DefaultValue("100000") long minCapacity,
+                                     @DefaultValue("0.01") double falsePositiveRate,
+                                     @DefaultValue("10m") Duration rebuildInterval,
+                                     @DefaultValue("false") boolean confirmMisses) {
+}
@@ -1,10 +1,14 @@
 package com.laporeon.posts_api.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
 @Configuration
+@Profile("!in-memory")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableMongoRepositories(basePackages = "com.laporeon.posts_api.repositories")
 @EnableMongoAuditing
 public class MongoConfiguration {
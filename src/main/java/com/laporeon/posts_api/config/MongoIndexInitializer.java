@@ -0,0 +1,63 @@
+package com.laporeon.posts_api.config;
+
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.entities.PostTombstone;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Profile("!in-memory")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class MongoIndexInitializer {
+
+    private final MongoTemplate mongoTemplate;
+
+    private final MongoMappingContext mappingContext;
+
+    private final BackgroundThreads backgroundThreads;
+
+    private final ChangeFeedProperties changeFeedProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        backgroundThreads.start("mongo-index-initializer", this::ensureIndexes);
+    }
+
+    void ensureIndexes() {
+        try {
+            ensureEntityIndexes(Post.class);
+            IndexOperations tombstones = ensureEntityIndexes(PostTombstone.class);
+            tombstones.createIndex(tombstoneTtlIndex(changeFeedProperties));
+        } catch (RuntimeException ex) {
+            log.warn("Could not ensure indexes for posts: {}", ex.getMessage());
+        }
+    }
+
+    static Index tombstoneTtlIndex(ChangeFeedProperties changeFeedProperties) {
+        return new Index().on("deleted_at", Sort.Direction.ASC)
+                          .named("deleted_at_ttl")
+                          .expire(changeFeedProperties.tombstoneRetention());
+    }
+
+    private IndexOperations ensureEntityIndexes(Class<?> entity) {
+        IndexOperations indexOperations = mongoTemplate.indexOps(entity);
+        new MongoPersistentEntityIndexResolver(mappingContext)
+                .resolveIndexFor(entity)
+                .forEach(indexOperations::createIndex);
+        log.info("Indexes for collection {} are in place", mongoTemplate.getCollectionName(entity));
+        return indexOperations;
+    }
+}
@@ -0,0 +1,72 @@
+package com.laporeon.posts_api.config;
+
+import com.laporeon.posts_api.dto.request.BulkOperationDTO;
+import com.laporeon.posts_api.dto.request.BulkRequestDTO;
+import com.laporeon.posts_api.dto.request.MultiGetRequestDTO;
+import com.laporeon.posts_api.dto.request.PostRequestDTO;
+import com.laporeon.posts_api.dto.response.AuthorResponseDTO;
+import com.laporeon.posts_api.dto.response.BulkItemResultDTO;
+import com.laporeon.posts_api.dto.response.BulkResponseDTO;
+import com.laporeon.posts_api.dto.response.CacheStatsDTO;
+import com.laporeon.posts_api.dto.response.ChangeFeedResponseDTO;
+import com.laporeon.posts_api.dto.response.CursorPageResponseDTO;
+import com.laporeon.posts_api.dto.response.ErrorResponseDTO;
+import com.laporeon.posts_api.dto.response.ImportLineErrorDTO;
+import com.laporeon.posts_api.dto.response.ImportResponseDTO;
+import com.laporeon.posts_api.dto.response.MultiGetItemDTO;
+import com.laporeon.posts_api.dto.response.MultiGetResponseDTO;
+import com.laporeon.posts_api.dto.response.PageResponseDTO;
+import com.laporeon.posts_api.dto.response.PostChangeDTO;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.dto.response.ValidationErrorResponseDTO;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.entities.PostTombstone;
+import com.laporeon.posts_api.repositories.PostVersion;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.projection.TargetAware;
+
+public class NativeHints implements RuntimeHintsRegistrar {
+
+    private static final Class<?>[] ENTITIES = {Post.class, PostTombstone.class};
+
+    private static final Class<?>[] DTOS = {
+            PostRequestDTO.class,
+            BulkRequestDTO.class,
+            BulkOperationDTO.class,
+            MultiGetRequestDTO.class,
+            PostResponseDTO.class,
+            PageResponseDTO.class,
+            CursorPageResponseDTO.class,
+            BulkResponseDTO.class,
+            BulkItemResultDTO.class,
+            MultiGetResponseDTO.class,
+            MultiGetItemDTO.class,
+            ChangeFeedResponseDTO.class,
+            PostChangeDTO.class,
+            AuthorResponseDTO.class,
+            ImportResponseDTO.class,
+            ImportLineErrorDTO.class,
+            CacheStatsDTO.class,
+            ErrorResponseDTO.class,
+            ValidationErrorResponseDTO.class
+    };
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> entity : ENTITIES) {
+            hints.reflection().registerType(entity,
+                                            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                                            MemberCategory.INVOKE_DECLARED_METHODS,
+                                            MemberCategory.DECLARED_FIELDS);
+        }
+        bindingRegistrar.registerReflectionHints(hints.reflection(), DTOS);
+        hints.proxies().registerJdkProxy(PostVersion.class, TargetAware.class, SpringProxy.class, DecoratingProxy.class);
+    }
+}
@@ -0,0 +1,54 @@
+package com.laporeon.posts_api.config;
+
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.entities.PostTombstone;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@Profile("!in-memory")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveMongoIndexInitializer {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    private final MongoMappingContext mappingContext;
+
+    private final ChangeFeedProperties changeFeedProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        ensureIndexes().subscribe(
+                null,
+                ex -> log.warn("Could not ensure indexes for posts: {}", ex.getMessage()));
+    }
+
+    Mono<Void> ensureIndexes() {
+        return ensureEntityIndexes(Post.class)
+                .then(ensureEntityIndexes(PostTombstone.class))
+                .then(reactiveMongoTemplate.indexOps(PostTombstone.class)
+                                           .createIndex(MongoIndexInitializer.tombstoneTtlIndex(changeFeedProperties)))
+                .then();
+    }
+
+    private Mono<Void> ensureEntityIndexes(Class<?> entity) {
+        ReactiveIndexOperations indexOperations = reactiveMongoTemplate.indexOps(entity);
+        return Flux.fromIterable(new MongoPersistentEntityIndexResolver(mappingContext).resolveIndexFor(entity))
+                   .concatMap(indexOperations::createIndex)
+                   .then(Mono.fromRunnable(() -> log.info("Indexes for collection {} are in place",
+                           reactiveMongoTemplate.getCollectionName(entity))));
+    }
+}
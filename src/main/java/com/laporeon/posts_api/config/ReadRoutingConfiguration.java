@@ -0,0 +1,119 @@
+package com.laporeon.posts_api.config;
+
+import com.laporeon.posts_api.repositories.PostReadRouter;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.connection.ConnectionPoolSettings;
+import com.mongodb.event.CommandEvent;
+import com.mongodb.event.CommandStartedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.mongodb.DefaultMongoCommandTagsProvider;
+import io.micrometer.core.instrument.binder.mongodb.DefaultMongoConnectionPoolTagsProvider;
+import io.micrometer.core.instrument.binder.mongodb.MongoCommandTagsProvider;
+import io.micrometer.core.instrument.binder.mongodb.MongoConnectionPoolTagsProvider;
+import io.micrometer.core.instrument.binder.mongodb.MongoMetricsCommandListener;
+import io.micrometer.core.instrument.binder.mongodb.MongoMetricsConnectionPoolListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.autoconfigure.mongo.MongoConnectionDetails;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@Profile("!in-memory")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "posts.read-routing", name = "enabled", havingValue = "true")
+public class ReadRoutingConfiguration {
+
+    private static final String ROUTE = "route";
+
+    private static final String PRIMARY = "primary";
+
+    private static final String SECONDARY = "secondary";
+
+    @Bean
+    MongoClientSettingsBuilderCustomizer primaryRouteCustomizer(ReadRoutingProperties properties) {
+        return builder -> builder.readPreference(ReadPreference.primary())
+                                 .applyToConnectionPoolSettings(pool -> applyPool(pool, properties.primaryPool()));
+    }
+
+    @Bean
+    MongoCommandTagsProvider mongoCommandTagsProvider() {
+        return commandTags(PRIMARY);
+    }
+
+    @Bean
+    MongoConnectionPoolTagsProvider mongoConnectionPoolTagsProvider() {
+        return poolTags(PRIMARY);
+    }
+
+    @Bean
+    PostReadRouter postReadRouter(ReadRoutingProperties properties,
+                                  MongoConnectionDetails connectionDetails,
+                                  MongoProperties mongoProperties,
+                                  MongoConverter mongoConverter,
+                                  MeterRegistry meterRegistry) {
+        ConnectionString connectionString = connectionDetails.getConnectionString();
+        ReadPreference readPreference = ReadPreference.valueOf(
+                properties.readPreference(),
+                List.of(),
+                properties.maxStaleness().toMillis(),
+                TimeUnit.MILLISECONDS);
+
+        MongoClientSettings settings = MongoClientSettings.builder()
+                .applyConnectionString(connectionString)
+                .applicationName("posts-api-secondary-reads")
+                .readPreference(readPreference)
+                .applyToConnectionPoolSettings(pool -> applyPool(pool, properties.secondaryPool())
+                        .addConnectionPoolListener(new MongoMetricsConnectionPoolListener(meterRegistry, poolTags(SECONDARY))))
+                .addCommandListener(new MongoMetricsCommandListener(meterRegistry, commandTags(SECONDARY)))
+                .build();
+
+        MongoClient client = MongoClients.create(settings);
+        MongoTemplate secondary = new MongoTemplate(
+                new SimpleMongoClientDatabaseFactory(client, mongoProperties.getMongoClientDatabase()),
+                mongoConverter);
+        return new PostReadRouter(client, secondary, properties.maxStaleness(), meterRegistry);
+    }
+
+    private static ConnectionPoolSettings.Builder applyPool(ConnectionPoolSettings.Builder pool,
+                                                            ReadRoutingProperties.Pool properties) {
+        return pool.maxSize(properties.maxSize())
+                   .minSize(properties.minSize())
+                   .maxWaitTime(properties.maxWaitTime().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static MongoCommandTagsProvider commandTags(String route) {
+        DefaultMongoCommandTagsProvider defaults = new DefaultMongoCommandTagsProvider();
+        return new MongoCommandTagsProvider() {
+            @Override
+            public void commandStarted(CommandStartedEvent event) {
+                defaults.commandStarted(event);
+            }
+
+            @Override
+            public Iterable<Tag> commandTags(CommandEvent event) {
+                return Tags.of(defaults.commandTags(event)).and(ROUTE, route);
+            }
+        };
+    }
+
+    private static MongoConnectionPoolTagsProvider poolTags(String route) {
+        DefaultMongoConnectionPoolTagsProvider defaults = new DefaultMongoConnectionPoolTagsProvider();
+        return event -> Tags.of(defaults.connectionPoolTags(event)).and(ROUTE, route);
+    }
+}
@@ -0,0 +1,19 @@
+package com.laporeon.posts_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "posts.read-routing")
+public record ReadRoutingProperties(@DefaultValue("false") boolean enabled,
+                                    @DefaultValue("secondaryPreferred") String readPreference,
+                                    @DefaultValue("90s") Duration maxStaleness,
+                                    @DefaultValue Pool primaryPool,
+                                    @DefaultValue Pool secondaryPool) {
+
+    public record Pool(@DefaultValue("100") int maxSize,
+                       @DefaultValue("0") int minSize,
+                       @DefaultValue("2m") Duration maxWaitTime) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.laporeon.posts_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "posts.stream")
+public record StreamProperties(@DefaultValue("10000") int maxSubscribers,
+                               @DefaultValue("256") int bufferSize,
+                               @DefaultValue("DISCONNECT") OverflowPolicy overflowPolicy,
+                               @DefaultValue("1024") int replaySize,
+                               @DefaultValue("15s") Duration heartbeatInterval,
+                               @DefaultValue("30m") Duration timeout) {
+
+    public enum OverflowPolicy {
+        DROP_OLDEST,
+        DISCONNECT
+    }
+}
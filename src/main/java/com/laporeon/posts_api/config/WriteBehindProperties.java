@@ -0,0 +1,17 @@
+package com.laporeon.posts_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "posts.write-behind")
+public record WriteBehindProperties(@DefaultValue("false") boolean enabled,
+                                    @DefaultValue("10000") int capacity,
+                                    @DefaultValue("500") int maxBatchSize,
+                                    @DefaultValue("2ms") Duration linger,
+                                    @DefaultValue("30s") Duration drainTimeout,
+                                    @DefaultValue("5") int maxAttempts,
+                                    @DefaultValue("50ms") Duration retryBackoff,
+                                    @DefaultValue("2s") Duration maxRetryBackoff) {
+}
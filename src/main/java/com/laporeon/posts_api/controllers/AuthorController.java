@@ -0,0 +1,98 @@
+package com.laporeon.posts_api.controllers;
+
+import com.laporeon.posts_api.dto.response.AuthorResponseDTO;
+import com.laporeon.posts_api.dto.response.CursorPageResponseDTO;
+import com.laporeon.posts_api.dto.response.ErrorResponseDTO;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.services.PostAuthorService;
+import com.laporeon.posts_api.utils.PostCursor;
+import com.laporeon.posts_api.utils.PostSortField;
+import com.laporeon.posts_api.utils.SwaggerExamples;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Authors", description = "Endpoints for browsing posts by author")
+@RestController
+@RequestMapping("/api/v1/authors")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class AuthorController {
+
+    private final PostAuthorService postAuthorService;
+
+    @Operation(
+            summary = "Get an author",
+            description = "Returns the number of posts written by the given author. Authors without posts report zero.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Author successfully retrieved",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = AuthorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.AUTHOR_RESPONSE))),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.SERVER_ERROR)))
+            }
+    )
+    @GetMapping("/{author}")
+    public ResponseEntity<AuthorResponseDTO> findAuthor(@PathVariable("author") String author) {
+        return ResponseEntity.ok().body(postAuthorService.findAuthor(author));
+    }
+
+    @Operation(
+            summary = "List posts of an author",
+            description = "Returns a page of the author's posts ordered by creation time, newest first by default. Omit the cursor to start from the first page; each response carries the token for the next one.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Posts page successfully retrieved",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = CursorPageResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.AUTHOR_POSTS_PAGE_RESPONSE))),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.INVALID_CURSOR_ERROR))),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.SERVER_ERROR)))
+            }
+    )
+    @GetMapping("/{author}/posts")
+    public ResponseEntity<CursorPageResponseDTO<PostResponseDTO>> listPosts(
+            @PathVariable("author") String author,
+            @Parameter(description = "Continuation token returned by the previous page")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Number of items per page")
+            @RequestParam(value = "size", defaultValue = "10")
+            @Min(value = 1, message = "Size must be between 1 and 100.")
+            @Max(value = 100, message = "Size must be between 1 and 100.") int size,
+            @Parameter(description = "Creation time direction (ASC or DESC). Ignored when a cursor is given")
+            @RequestParam(value = "direction", defaultValue = "DESC") String direction) {
+
+        PostCursor postCursor = cursor != null
+                ? PostCursor.decode(cursor)
+                : PostCursor.first(PostSortField.CREATED_AT, PostSortField.directionOf(direction));
+
+        return ResponseEntity.ok().body(postAuthorService.listPosts(author, postCursor, size));
+    }
+}
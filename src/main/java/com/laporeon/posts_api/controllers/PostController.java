@@ -1,11 +1,28 @@
 package com.laporeon.posts_api.controllers;
 
+import com.laporeon.posts_api.utils.CountMode;
+import com.laporeon.posts_api.utils.PostCursor;
+import com.laporeon.posts_api.utils.PostETags;
+import com.laporeon.posts_api.utils.PostSortField;
 import com.laporeon.posts_api.utils.SwaggerExamples;
+import com.laporeon.posts_api.dto.response.CursorPageResponseDTO;
 import com.laporeon.posts_api.dto.response.PageResponseDTO;
+import com.laporeon.posts_api.dto.request.BulkRequestDTO;
+import com.laporeon.posts_api.dto.request.MultiGetRequestDTO;
 import com.laporeon.posts_api.dto.request.PostRequestDTO;
+import com.laporeon.posts_api.dto.response.BulkResponseDTO;
+import com.laporeon.posts_api.dto.response.ChangeFeedResponseDTO;
+import com.laporeon.posts_api.dto.response.ImportResponseDTO;
+import com.laporeon.posts_api.dto.response.MultiGetResponseDTO;
 import com.laporeon.posts_api.dto.response.PostResponseDTO;
 import com.laporeon.posts_api.dto.response.ErrorResponseDTO;
+import com.laporeon.posts_api.services.PostBulkService;
+import com.laporeon.posts_api.services.PostChangeFeedService;
+import com.laporeon.posts_api.services.PostExportService;
+import com.laporeon.posts_api.services.PostImportService;
 import com.laporeon.posts_api.services.PostService;
+import com.laporeon.posts_api.services.PostStreamService;
+import com.laporeon.posts_api.services.PostWriteBehindService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,37 +31,71 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
 
 
 @Tag(name = "Posts", description = "Endpoints for managing blog posts")
 @RestController
 @RequestMapping("/api/v1/posts")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class PostController {
 
     private final PostService postService;
 
+    private final PostBulkService postBulkService;
+
+    private final PostChangeFeedService postChangeFeedService;
+
+    private final PostExportService postExportService;
+
+    private final PostImportService postImportService;
+
+    private final PostStreamService postStreamService;
+
+    private final PostWriteBehindService postWriteBehindService;
+
     @Operation(
             summary = "Create a new post",
-            description = "Creates a new post with specified title, description and content. Validates input and returns saved post.",
+            description = "Creates a new post with specified title, description and content. Validates input and returns saved post. When write-behind is enabled the post is queued, written in a later group commit and returned with 202 and its pre-generated id.",
             responses = {
                     @ApiResponse(responseCode = "201", description = "Post successfully created",
                             content = @Content(
                                     mediaType = "application/json",
                                     schema = @Schema(implementation = PostResponseDTO.class),
                                     examples = @ExampleObject(value = SwaggerExamples.POST_SUCCESS_RESPONSE))),
+                    @ApiResponse(responseCode = "202", description = "Post accepted for a write-behind group commit",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = PostResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.POST_SUCCESS_RESPONSE))),
                     @ApiResponse(responseCode = "400", description = "Request validation failed for one or more fields",
                             content = @Content(
                                     mediaType = "application/json",
                                     schema = @Schema(implementation = ErrorResponseDTO.class),
                                     examples = @ExampleObject(value = SwaggerExamples.VALIDATION_ERROR_RESPONSE))),
+                    @ApiResponse(responseCode = "503", description = "Write-behind queue is full or draining",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.WRITE_QUEUE_FULL_ERROR))),
                     @ApiResponse(responseCode = "500", description = "Internal Server Error",
                             content = @Content(
                                     mediaType = "application/json",
@@ -54,19 +105,113 @@ public class PostController {
     )
     @PostMapping
     public ResponseEntity<PostResponseDTO> create(@Valid @RequestBody PostRequestDTO dto) {
+        if (postWriteBehindService.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(postWriteBehindService.enqueue(dto));
+        }
+
         PostResponseDTO postResponseDTO = postService.create(dto);
         return ResponseEntity.status(HttpStatus.CREATED).body(postResponseDTO);
     }
 
+    @Operation(
+            summary = "Create, update and delete posts in bulk",
+            description = "Applies a mixed list of CREATE, UPDATE and DELETE operations as a single unordered bulk write and returns one result per operation, in request order.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Bulk request processed; check each item for its outcome",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = BulkResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.BULK_RESPONSE))),
+                    @ApiResponse(responseCode = "400", description = "Request validation failed for one or more fields",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.VALIDATION_ERROR_RESPONSE))),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.SERVER_ERROR)))
+            }
+    )
+    @PostMapping("/_bulk")
+    public ResponseEntity<BulkResponseDTO> bulk(@Valid @RequestBody BulkRequestDTO dto) {
+        BulkResponseDTO bulkResponseDTO = postBulkService.bulk(dto);
+        return ResponseEntity.ok().body(bulkResponseDTO);
+    }
+
+    @Operation(
+            summary = "Fetch many posts by id",
+            description = "Resolves up to 100 ids with a single query, serving cached posts without touching the database. Returns one item per requested id, in request order, and reports missing ids inline instead of failing the request.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = SwaggerExamples.MULTI_GET_REQUEST))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Posts resolved; check each item for whether it was found",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = MultiGetResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.MULTI_GET_RESPONSE))),
+                    @ApiResponse(responseCode = "400", description = "Request validation failed for one or more fields",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.VALIDATION_ERROR_RESPONSE))),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.SERVER_ERROR)))
+            }
+    )
+    @PostMapping("/_mget")
+    public ResponseEntity<MultiGetResponseDTO> multiGet(@Valid @RequestBody MultiGetRequestDTO dto) {
+        MultiGetResponseDTO multiGetResponseDTO = postService.findAllById(dto.ids());
+        return ResponseEntity.ok().body(multiGetResponseDTO);
+    }
+
+    @Operation(
+            summary = "Import posts from NDJSON",
+            description = "Reads one post per line from the request body, validates each line and inserts valid posts in unordered batches. Invalid lines are reported by line number without aborting the import.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(
+                            mediaType = "application/x-ndjson",
+                            examples = @ExampleObject(value = SwaggerExamples.POSTS_IMPORT_REQUEST))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Import processed; check errors for rejected lines",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ImportResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.POSTS_IMPORT_RESPONSE))),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.SERVER_ERROR)))
+            }
+    )
+    @PostMapping(value = "/_import", consumes = "application/x-ndjson")
+    public ResponseEntity<ImportResponseDTO> importPosts(@Parameter(hidden = true) InputStream body) throws IOException {
+        ImportResponseDTO importResponseDTO = postImportService.importPosts(body);
+        return ResponseEntity.ok().body(importResponseDTO);
+    }
+
     @Operation(
             summary = "List all posts",
-            description = "Returns a paginated and sorted list of posts, allowing control over page number, size, order by field, and sort direction.",
+            description = "Returns a paginated and sorted list of posts, allowing control over page number, size, order by field, and sort direction. Totals are only included when requested through the count parameter.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Posts page successfully retrieved",
                             content = @Content(
                                     mediaType = "application/json",
                                     schema = @Schema(implementation = PageResponseDTO.class),
                                     examples = @ExampleObject(value = SwaggerExamples.POSTS_PAGE_RESPONSE))),
+                    @ApiResponse(responseCode = "304", description = "Posts page has not changed since the given ETag"),
+                    @ApiResponse(responseCode = "400", description = "Unsupported sort field",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.INVALID_SORT_FIELD_ERROR))),
                     @ApiResponse(responseCode = "500", description = "Internal Server Error",
                             content = @Content(
                                     mediaType = "application/json",
@@ -77,18 +222,202 @@ public class PostController {
     @GetMapping
     public ResponseEntity<PageResponseDTO> listPosts(
             @Parameter(description = "Page number")
-            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "page", defaultValue = "0")
+            @Min(value = 0, message = "Page must not be negative.") int page,
             @Parameter(description = "Number of items per page")
-            @RequestParam(value = "size", defaultValue = "10") int size,
-            @Parameter(description = "Field to sort by")
+            @RequestParam(value = "size", defaultValue = "10")
+            @Min(value = 1, message = "Size must be between 1 and 100.")
+            @Max(value = 100, message = "Size must be between 1 and 100.") int size,
+            @Parameter(description = "Field to sort by (title, createdAt or updatedAt)")
             @RequestParam(value = "orderBy", defaultValue = "title") String orderBy,
             @Parameter(description = "Sort direction (ASC or DESC)")
-            @RequestParam(value = "direction", defaultValue = "ASC") String direction) {
+            @RequestParam(value = "direction", defaultValue = "ASC") String direction,
+            @Parameter(description = "How totals are computed (NONE, ESTIMATED or EXACT)")
+            @RequestParam(value = "count", defaultValue = "NONE") String count,
+            WebRequest request) {
 
         Pageable pageable = PageRequest.of(page, size,
-                Sort.by(Sort.Direction.valueOf(direction.toUpperCase()), orderBy));
+                PostSortField.fromProperty(orderBy).sort(PostSortField.directionOf(direction)));
+        CountMode countMode = CountMode.fromParameter(count);
+
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String eTag = postService.pageETag(pageable, countMode);
+            if (request.checkNotModified(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+
+        PageResponseDTO<PostResponseDTO> posts = postService.listPosts(pageable, countMode);
+        return ResponseEntity.ok().eTag(postService.pageETag(posts)).body(posts);
+    }
 
-        PageResponseDTO<PostResponseDTO> posts = postService.listPosts(pageable);
+    @Operation(
+            summary = "List posts by cursor",
+            description = "Returns a page of posts after the given continuation token. Omit the cursor to start from the first page; each response carries the token for the next one.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Posts page successfully retrieved",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = CursorPageResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.POSTS_CURSOR_PAGE_RESPONSE))),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or sort field",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.INVALID_CURSOR_ERROR))),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.SERVER_ERROR)))
+            }
+    )
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponseDTO<PostResponseDTO>> listPostsByCursor(
+            @Parameter(description = "Continuation token returned by the previous page")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Number of items per page")
+            @RequestParam(value = "size", defaultValue = "10")
+            @Min(value = 1, message = "Size must be between 1 and 100.")
+            @Max(value = 100, message = "Size must be between 1 and 100.") int size,
+            @Parameter(description = "Field to sort by (title, createdAt or updatedAt). Ignored when a cursor is given")
+            @RequestParam(value = "orderBy", defaultValue = "title") String orderBy,
+            @Parameter(description = "Sort direction (ASC or DESC). Ignored when a cursor is given")
+            @RequestParam(value = "direction", defaultValue = "ASC") String direction) {
+
+        PostCursor postCursor = cursor != null
+                ? PostCursor.decode(cursor)
+                : PostCursor.first(PostSortField.fromProperty(orderBy), PostSortField.directionOf(direction));
+
+        CursorPageResponseDTO<PostResponseDTO> posts = postService.listPosts(postCursor, size);
+        return ResponseEntity.ok().body(posts);
+    }
+
+    @Operation(
+            summary = "List changes since a token",
+            description = "Returns posts created or updated and tombstones of posts deleted after the given change token, oldest first. Omit the token to start from the beginning; each response carries the token for the next call, which stays the same when nothing changed.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Changes successfully retrieved",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ChangeFeedResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.CHANGE_FEED_RESPONSE))),
+                    @ApiResponse(responseCode = "400", description = "Invalid change token",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.INVALID_CURSOR_ERROR))),
+                    @ApiResponse(responseCode = "410", description = "Change token older than the retained deletion history",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.CHANGE_TOKEN_EXPIRED_ERROR))),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.SERVER_ERROR)))
+            }
+    )
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeFeedResponseDTO> listChanges(
+            @Parameter(description = "Change token returned by the previous call")
+            @RequestParam(value = "since", required = false) String since,
+            @Parameter(description = "Maximum number of changes to return")
+            @RequestParam(value = "size", required = false) Integer size) {
+
+        return ResponseEntity.ok().body(postChangeFeedService.changesSince(since, size));
+    }
+
+    @Operation(
+            summary = "Stream post changes",
+            description = "Pushes created, updated and deleted events as Server-Sent Events while posts are written. Send the Last-Event-ID header to resume after a disconnect; a reset event means the missed events are gone and the client should resynchronize through /changes.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Stream opened",
+                            content = @Content(
+                                    mediaType = "text/event-stream",
+                                    examples = @ExampleObject(value = SwaggerExamples.POSTS_STREAM_RESPONSE))),
+                    @ApiResponse(responseCode = "503", description = "Too many open streams, retry after the Retry-After delay",
+                            content = @Content)
+            }
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(
+            @Parameter(description = "Id of the last event received before disconnecting")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        return postStreamService.subscribe(lastEventId)
+                                .map(emitter -> ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter))
+                                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                                               .header(HttpHeaders.RETRY_AFTER, "5")
+                                                               .build());
+    }
+
+    @Operation(
+            summary = "Export posts as NDJSON",
+            description = "Streams every post, one JSON document per line, ordered by update time. Pass updatedSince to export only posts changed at or after that instant.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Posts successfully streamed",
+                            content = @Content(
+                                    mediaType = "application/x-ndjson",
+                                    examples = @ExampleObject(value = SwaggerExamples.POSTS_EXPORT_RESPONSE))),
+                    @ApiResponse(responseCode = "400", description = "Invalid query parameter",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.INVALID_PARAMETER_ERROR))),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.SERVER_ERROR)))
+            }
+    )
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "Only export posts updated at or after this ISO-8601 instant")
+            @RequestParam(value = "updatedSince", required = false) Instant updatedSince,
+            @Parameter(description = "Number of posts fetched per cursor batch (defaults to posts.export.batch-size)")
+            @RequestParam(value = "batchSize", required = false) Integer batchSize) {
+
+        StreamingResponseBody body = out -> postExportService.export(updatedSince, batchSize, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @Operation(
+            summary = "Search posts",
+            description = "Returns posts matching the given words in title, description or body, ranked by relevance. Matches in the title weigh more than in the description, which weigh more than in the body.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Matching posts successfully retrieved",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = PageResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.POSTS_PAGE_RESPONSE))),
+                    @ApiResponse(responseCode = "400", description = "Blank search query",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.INVALID_SEARCH_QUERY_ERROR))),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.SERVER_ERROR)))
+            }
+    )
+    @GetMapping("/search")
+    public ResponseEntity<PageResponseDTO<PostResponseDTO>> search(
+            @Parameter(description = "Words to search for")
+            @RequestParam(value = "q", defaultValue = "") String q,
+            @Parameter(description = "Page number")
+            @RequestParam(value = "page", defaultValue = "0")
+            @Min(value = 0, message = "Page must not be negative.") int page,
+            @Parameter(description = "Number of items per page")
+            @RequestParam(value = "size", defaultValue = "10")
+            @Min(value = 1, message = "Size must be between 1 and 100.")
+            @Max(value = 100, message = "Size must be between 1 and 100.") int size) {
+
+        PageResponseDTO<PostResponseDTO> posts = postService.search(q, PageRequest.of(page, size));
         return ResponseEntity.ok().body(posts);
     }
 
@@ -101,6 +430,7 @@ public class PostController {
                                     mediaType = "application/json",
                                     schema = @Schema(implementation = PostResponseDTO.class),
                                     examples = @ExampleObject(value = SwaggerExamples.POST_SUCCESS_RESPONSE))),
+                    @ApiResponse(responseCode = "304", description = "Post has not changed since the given ETag"),
                     @ApiResponse(responseCode = "404", description = "Post not found",
                             content = @Content(
                                     mediaType = "application/json",
@@ -114,9 +444,18 @@ public class PostController {
             }
     )
     @GetMapping("/{id}")
-    public ResponseEntity<PostResponseDTO> findPostById(@PathVariable("id") String id) {
+    public ResponseEntity<PostResponseDTO> findPostById(@PathVariable("id") String id, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String eTag = postService.findETag(id);
+            if (request.checkNotModified(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+
         PostResponseDTO postResponseDTO = postService.findById(id);
-        return ResponseEntity.ok().body(postResponseDTO);
+        return ResponseEntity.ok()
+                             .eTag(PostETags.of(postResponseDTO.id(), postResponseDTO.updatedAt()))
+                             .body(postResponseDTO);
     }
 
     @Operation(
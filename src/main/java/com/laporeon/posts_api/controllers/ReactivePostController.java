@@ -0,0 +1,121 @@
+package com.laporeon.posts_api.controllers;
+
+import com.laporeon.posts_api.dto.request.PostRequestDTO;
+import com.laporeon.posts_api.dto.response.CursorPageResponseDTO;
+import com.laporeon.posts_api.dto.response.PageResponseDTO;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.services.ReactivePostService;
+import com.laporeon.posts_api.utils.CountMode;
+import com.laporeon.posts_api.utils.PostCursor;
+import com.laporeon.posts_api.utils.PostETags;
+import com.laporeon.posts_api.utils.PostSortField;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@Tag(name = "Posts", description = "Endpoints for managing blog posts")
+@RestController
+@RequestMapping("/api/v1/posts")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactivePostController {
+
+    private final ReactivePostService reactivePostService;
+
+    @Operation(summary = "Create a new post")
+    @PostMapping
+    public Mono<ResponseEntity<PostResponseDTO>> create(@Valid @RequestBody PostRequestDTO dto) {
+        return reactivePostService.create(dto)
+                                  .map(post -> ResponseEntity.status(HttpStatus.CREATED).body(post));
+    }
+
+    @Operation(summary = "List all posts")
+    @GetMapping
+    public Mono<ResponseEntity<PageResponseDTO<PostResponseDTO>>> listPosts(
+            @Parameter(description = "Page number")
+            @RequestParam(value = "page", defaultValue = "0")
+            @Min(value = 0, message = "Page must not be negative.") int page,
+            @Parameter(description = "Number of items per page")
+            @RequestParam(value = "size", defaultValue = "10")
+            @Min(value = 1, message = "Size must be between 1 and 100.")
+            @Max(value = 100, message = "Size must be between 1 and 100.") int size,
+            @Parameter(description = "Field to sort by (title, createdAt or updatedAt)")
+            @RequestParam(value = "orderBy", defaultValue = "title") String orderBy,
+            @Parameter(description = "Sort direction (ASC or DESC)")
+            @RequestParam(value = "direction", defaultValue = "ASC") String direction,
+            @Parameter(description = "How totals are computed (NONE, ESTIMATED or EXACT)")
+            @RequestParam(value = "count", defaultValue = "NONE") String count,
+            ServerWebExchange exchange) {
+
+        Pageable pageable = PageRequest.of(page, size,
+                PostSortField.fromProperty(orderBy).sort(PostSortField.directionOf(direction)));
+        CountMode countMode = CountMode.fromParameter(count);
+
+        return reactivePostService.listPosts(pageable, countMode)
+                                  .map(posts -> withETag(PostETags.ofPage(posts), posts, exchange));
+    }
+
+    @Operation(summary = "List posts by cursor")
+    @GetMapping("/cursor")
+    public Mono<ResponseEntity<CursorPageResponseDTO<PostResponseDTO>>> listPostsByCursor(
+            @Parameter(description = "Continuation token returned by the previous page")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Number of items per page")
+            @RequestParam(value = "size", defaultValue = "10")
+            @Min(value = 1, message = "Size must be between 1 and 100.")
+            @Max(value = 100, message = "Size must be between 1 and 100.") int size,
+            @Parameter(description = "Field to sort by (title, createdAt or updatedAt). Ignored when a cursor is given")
+            @RequestParam(value = "orderBy", defaultValue = "title") String orderBy,
+            @Parameter(description = "Sort direction (ASC or DESC). Ignored when a cursor is given")
+            @RequestParam(value = "direction", defaultValue = "ASC") String direction) {
+
+        PostCursor postCursor = cursor != null
+                ? PostCursor.decode(cursor)
+                : PostCursor.first(PostSortField.fromProperty(orderBy), PostSortField.directionOf(direction));
+
+        return reactivePostService.listPosts(postCursor, size)
+                                  .map(posts -> ResponseEntity.ok().body(posts));
+    }
+
+    @Operation(summary = "Get post by ID")
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<PostResponseDTO>> findPostById(@PathVariable("id") String id, ServerWebExchange exchange) {
+        return reactivePostService.findById(id)
+                                  .map(post -> withETag(PostETags.of(post.id(), post.updatedAt()), post, exchange));
+    }
+
+    @Operation(summary = "Update existing post")
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<PostResponseDTO>> update(
+            @PathVariable("id") String id,
+            @Valid @RequestBody PostRequestDTO postRequestDTO) {
+        return reactivePostService.update(id, postRequestDTO)
+                                  .map(post -> ResponseEntity.ok().body(post));
+    }
+
+    @Operation(summary = "Delete post")
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable("id") String id) {
+        return reactivePostService.delete(id)
+                                  .then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+
+    private <T> ResponseEntity<T> withETag(String eTag, T body, ServerWebExchange exchange) {
+        if (exchange.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(body);
+    }
+}
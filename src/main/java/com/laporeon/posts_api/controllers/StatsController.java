@@ -0,0 +1,49 @@
+package com.laporeon.posts_api.controllers;
+
+import com.laporeon.posts_api.dto.response.CacheStatsDTO;
+import com.laporeon.posts_api.dto.response.ErrorResponseDTO;
+import com.laporeon.posts_api.services.PostService;
+import com.laporeon.posts_api.utils.SwaggerExamples;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Stats", description = "Endpoints for inspecting runtime statistics")
+@RestController
+@RequestMapping("/api/v1/stats")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final PostService postService;
+
+    @Operation(
+            summary = "Post cache statistics",
+            description = "Returns hit, miss and eviction counts for the on-heap and off-heap post caches.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Cache statistics successfully retrieved",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = CacheStatsDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.CACHE_STATS_RESPONSE))),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.SERVER_ERROR)))
+            }
+    )
+    @GetMapping("/cache")
+    public ResponseEntity<CacheStatsDTO> cacheStats() {
+        return ResponseEntity.ok().body(postService.cacheStats());
+    }
+}
@@ -0,0 +1,20 @@
+package com.laporeon.posts_api.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+public record BulkOperationDTO(
+        @NotNull(message = "Action is required.")
+        @Schema(example = "UPDATE")
+        Action action,
+        @Schema(example = "507f1f77bcf86cd799439011")
+        String id,
+        PostRequestDTO post
+) {
+
+    public enum Action {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+}
@@ -0,0 +1,14 @@
+package com.laporeon.posts_api.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkRequestDTO(
+        @NotEmpty(message = "At least one operation is required.")
+        @Size(max = 1000, message = "A bulk request accepts at most {max} operations.")
+        List<@Valid @NotNull(message = "Operation must not be null.") BulkOperationDTO> operations
+) {}
@@ -0,0 +1,13 @@
+package com.laporeon.posts_api.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record MultiGetRequestDTO(
+        @NotEmpty(message = "At least one id is required.")
+        @Size(max = 100, message = "A multi-get request accepts at most {max} ids.")
+        List<@NotBlank(message = "Id must not be blank.") String> ids
+) {}
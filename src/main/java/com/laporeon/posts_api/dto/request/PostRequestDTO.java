@@ -2,6 +2,7 @@ package com.laporeon.posts_api.dto.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 public record PostRequestDTO(
@@ -16,5 +17,8 @@ public record PostRequestDTO(
         @NotBlank(message = "Body content is required.")
         @Size(min = 60, max = 500, message = "Body content must be between {min} and {max} characters long.")
         @Schema(example = "Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.")
-        String body
+        String body,
+        @Pattern(regexp = "[a-z0-9][a-z0-9_-]{2,49}", message = "Author must be 3 to 50 lowercase letters, digits, '-' or '_'.")
+        @Schema(example = "laporeon")
+        String author
 ) {}
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.laporeon.posts_api.dto.response;
+
+public record AuthorResponseDTO(String author,
+                                long numberOfPosts) {
+}
@@ -0,0 +1,12 @@
+package com.laporeon.posts_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.laporeon.posts_api.dto.request.BulkOperationDTO;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkItemResultDTO(int index,
+                                BulkOperationDTO.Action action,
+                                String id,
+                                int status,
+                                String error) {
+}
@@ -0,0 +1,7 @@
+package com.laporeon.posts_api.dto.response;
+
+import java.util.List;
+
+public record BulkResponseDTO(boolean errors,
+                              List<BulkItemResultDTO> items) {
+}
@@ -0,0 +1,12 @@
+package com.laporeon.posts_api.dto.response;
+
+public record CacheStatsDTO(long heapHits,
+                            long heapMisses,
+                            long heapEvictions,
+                            long heapEntries,
+                            long offHeapHits,
+                            long offHeapMisses,
+                            long offHeapEvictions,
+                            long offHeapEntries,
+                            long offHeapUsedBytes) {
+}
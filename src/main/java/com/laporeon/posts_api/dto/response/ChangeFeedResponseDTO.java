@@ -0,0 +1,9 @@
+package com.laporeon.posts_api.dto.response;
+
+import java.util.List;
+
+public record ChangeFeedResponseDTO(List<PostChangeDTO> changes,
+                                    int numberOfChanges,
+                                    String nextToken,
+                                    boolean hasMore) {
+}
@@ -0,0 +1,10 @@
+package com.laporeon.posts_api.dto.response;
+
+import java.util.List;
+
+public record CursorPageResponseDTO<T>(List<T> content,
+                                       int pageSize,
+                                       int numberOfElements,
+                                       String nextCursor,
+                                       boolean hasNext) {
+}
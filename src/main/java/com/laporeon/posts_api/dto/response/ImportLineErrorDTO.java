@@ -0,0 +1,5 @@
+package com.laporeon.posts_api.dto.response;
+
+public record ImportLineErrorDTO(long line,
+                                 String error) {
+}
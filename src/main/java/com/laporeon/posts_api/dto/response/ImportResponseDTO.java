@@ -0,0 +1,9 @@
+package com.laporeon.posts_api.dto.response;
+
+import java.util.List;
+
+public record ImportResponseDTO(long received,
+                                long imported,
+                                long failed,
+                                List<ImportLineErrorDTO> errors) {
+}
@@ -0,0 +1,9 @@
+package com.laporeon.posts_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MultiGetItemDTO(String id,
+                              boolean found,
+                              PostResponseDTO post) {
+}
@@ -1,12 +1,15 @@
 package com.laporeon.posts_api.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PageResponseDTO<T>(List<T> content,
                                  int pageNumber,
                                  int pageSize,
-                                 int totalPages,
-                                 long totalElements,
+                                 Integer totalPages,
+                                 Long totalElements,
                                  int numberOfElements,
                                  boolean isFirstPage,
                                  boolean isLastPage,
@@ -0,0 +1,25 @@
+package com.laporeon.posts_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PostChangeDTO(Type type,
+                            String id,
+                            Instant changedAt,
+                            PostResponseDTO post) {
+
+    public enum Type {
+        UPSERTED,
+        DELETED
+    }
+
+    public static PostChangeDTO upserted(PostResponseDTO post) {
+        return new PostChangeDTO(Type.UPSERTED, post.id(), post.updatedAt(), post);
+    }
+
+    public static PostChangeDTO deleted(String id, Instant deletedAt) {
+        return new PostChangeDTO(Type.DELETED, id, deletedAt, null);
+    }
+}
@@ -7,6 +7,7 @@ public record PostResponseDTO(
         String title,
         String description,
         String body,
+        String author,
         Instant createdAt,
         Instant updatedAt
 ) {
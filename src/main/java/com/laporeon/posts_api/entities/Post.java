@@ -6,6 +6,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.mapping.MongoId;
@@ -13,8 +15,12 @@ import org.springframework.data.mongodb.core.mapping.MongoId;
 import java.time.Instant;
 
 @Document(collection = "posts")
+@CompoundIndex(name = "title_id", def = "{'title': 1, '_id': 1}")
+@CompoundIndex(name = "created_at_id", def = "{'created_at': 1, '_id': 1}")
+@CompoundIndex(name = "updated_at_id", def = "{'updated_at': 1, '_id': 1}")
+@CompoundIndex(name = "author_created_at_id", def = "{'author': 1, 'created_at': 1, '_id': 1}")
 @Data
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 public class Post {
@@ -22,12 +28,17 @@ public class Post {
     @MongoId
     private String id;
 
+    @TextIndexed(weight = 3)
     private String title;
 
+    @TextIndexed(weight = 2)
     private String description;
 
+    @TextIndexed
     private String body;
 
+    private String author;
+
     @CreatedDate
     @Field("created_at")
     private Instant createdAt;
@@ -0,0 +1,28 @@
+package com.laporeon.posts_api.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoId;
+
+import java.time.Instant;
+
+@Document(collection = "post_tombstones")
+@CompoundIndex(name = "deleted_at_id", def = "{'deleted_at': 1, '_id': 1}")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostTombstone {
+
+    @MongoId
+    private String id;
+
+    @Field("deleted_at")
+    private Instant deletedAt;
+
+}
@@ -0,0 +1,28 @@
+package com.laporeon.posts_api.events;
+
+import com.laporeon.posts_api.entities.Post;
+
+public record PostChangedEvent(ChangeType type, String id, Post post) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static PostChangedEvent created(Post post) {
+        return new PostChangedEvent(ChangeType.CREATED, post.getId(), post);
+    }
+
+    public static PostChangedEvent updated(Post post) {
+        return new PostChangedEvent(ChangeType.UPDATED, post.getId(), post);
+    }
+
+    public static PostChangedEvent deleted(String id) {
+        return new PostChangedEvent(ChangeType.DELETED, id, null);
+    }
+
+    public static PostChangedEvent deleted(Post post) {
+        return new PostChangedEvent(ChangeType.DELETED, post.getId(), post);
+    }
+}
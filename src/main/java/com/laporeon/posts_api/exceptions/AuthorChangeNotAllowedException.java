@@ -0,0 +1,10 @@
+package com.laporeon.posts_api.exceptions;
+
+public class AuthorChangeNotAllowedException extends RuntimeException {
+    private static final String DEFAULT_MESSAGE = "Author of post %s cannot be changed.";
+
+    public AuthorChangeNotAllowedException(String id) {
+        super(DEFAULT_MESSAGE.formatted(id));
+    }
+
+}
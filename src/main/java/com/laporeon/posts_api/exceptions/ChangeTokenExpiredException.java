@@ -0,0 +1,10 @@
+package com.laporeon.posts_api.exceptions;
+
+public class ChangeTokenExpiredException extends RuntimeException {
+    private static final String DEFAULT_MESSAGE = "Change token %s is older than the retained deletion history. Resynchronize without a token.";
+
+    public ChangeTokenExpiredException(String token) {
+        super(DEFAULT_MESSAGE.formatted(token));
+    }
+
+}
@@ -3,12 +3,17 @@ package com.laporeon.posts_api.exceptions;
 import com.laporeon.posts_api.dto.response.ErrorResponseDTO;
 import com.laporeon.posts_api.dto.response.ValidationErrorResponseDTO;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.Instant;
 import java.util.Comparator;
@@ -21,16 +26,42 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponseDTO> handleValidationException(MethodArgumentNotValidException ex) {
+        return validationError(ex.getBindingResult());
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ValidationErrorResponseDTO> handleWebExchangeBindException(WebExchangeBindException ex) {
+        return validationError(ex.getBindingResult());
+    }
 
-        List<Map<String, String>> errors = ex.getBindingResult()
-                                             .getFieldErrors()
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ValidationErrorResponseDTO> handleMethodValidationException(HandlerMethodValidationException ex) {
+        List<Map<String, String>> errors = ex.getParameterValidationResults()
                                              .stream()
-                                             .sorted(Comparator.comparing(FieldError::getField))
-                                             .map(err -> Map.of(
-                                                     "field", err.getField(),
-                                                     "message", err.getDefaultMessage()))
+                                             .flatMap(result -> result.getResolvableErrors()
+                                                                      .stream()
+                                                                      .map(err -> Map.of(
+                                                                              "field", result.getMethodParameter().getParameterName(),
+                                                                              "message", err.getDefaultMessage())))
+                                             .sorted(Comparator.comparing(err -> err.get("field")))
                                              .toList();
 
+        return validationError(errors);
+    }
+
+    private ResponseEntity<ValidationErrorResponseDTO> validationError(BindingResult bindingResult) {
+        List<Map<String, String>> errors = bindingResult.getFieldErrors()
+                                                        .stream()
+                                                        .sorted(Comparator.comparing(FieldError::getField))
+                                                        .map(err -> Map.of(
+                                                                "field", err.getField(),
+                                                                "message", err.getDefaultMessage()))
+                                                        .toList();
+
+        return validationError(errors);
+    }
+
+    private ResponseEntity<ValidationErrorResponseDTO> validationError(List<Map<String, String>> errors) {
         ValidationErrorResponseDTO error = new ValidationErrorResponseDTO(
                 HttpStatus.BAD_REQUEST.value(),
                 "Validation Error",
@@ -52,6 +83,53 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler({InvalidCursorException.class, InvalidSortFieldException.class, InvalidSortDirectionException.class,
+            InvalidCountModeException.class, InvalidSearchQueryException.class, AuthorChangeNotAllowedException.class})
+    public ResponseEntity<ErrorResponseDTO> handleBadRequestException(RuntimeException ex) {
+        ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                ex.getMessage(),
+                Instant.now()
+        );
+
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    @ExceptionHandler(ChangeTokenExpiredException.class)
+    public ResponseEntity<ErrorResponseDTO> handleChangeTokenExpiredException(ChangeTokenExpiredException ex) {
+        ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.GONE.value(),
+                ex.getMessage(),
+                Instant.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.GONE).body(error);
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponseDTO> handleTypeMismatchException(MethodArgumentTypeMismatchException ex) {
+        ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "Parameter %s has an invalid value.".formatted(ex.getName()),
+                Instant.now()
+        );
+
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    @ExceptionHandler(WriteQueueFullException.class)
+    public ResponseEntity<ErrorResponseDTO> handleWriteQueueFullException(WriteQueueFullException ex) {
+        ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                ex.getMessage(),
+                Instant.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                             .header(HttpHeaders.RETRY_AFTER, "1")
+                             .body(error);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDTO> handleException(Exception ex) {
         log.error("An unexpected error occurred {}", ex.getMessage());
@@ -0,0 +1,10 @@
+package com.laporeon.posts_api.exceptions;
+
+public class InvalidCountModeException extends RuntimeException {
+    private static final String DEFAULT_MESSAGE = "Count mode %s is not supported.";
+
+    public InvalidCountModeException(String count) {
+        super(DEFAULT_MESSAGE.formatted(count));
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.laporeon.posts_api.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+    private static final String DEFAULT_MESSAGE = "Cursor %s is invalid or has expired.";
+
+    public InvalidCursorException(String cursor) {
+        super(DEFAULT_MESSAGE.formatted(cursor));
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.laporeon.posts_api.exceptions;
+
+public class InvalidSearchQueryException extends RuntimeException {
+    private static final String DEFAULT_MESSAGE = "Search query must not be blank.";
+
+    public InvalidSearchQueryException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+}
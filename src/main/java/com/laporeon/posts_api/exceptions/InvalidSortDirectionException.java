@@ -0,0 +1,10 @@
+package com.laporeon.posts_api.exceptions;
+
+public class InvalidSortDirectionException extends RuntimeException {
+    private static final String DEFAULT_MESSAGE = "Sort direction %s is not supported.";
+
+    public InvalidSortDirectionException(String direction) {
+        super(DEFAULT_MESSAGE.formatted(direction));
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.laporeon.posts_api.exceptions;
+
+public class InvalidSortFieldException extends RuntimeException {
+    private static final String DEFAULT_MESSAGE = "Sorting by %s is not supported.";
+
+    public InvalidSortFieldException(String field) {
+        super(DEFAULT_MESSAGE.formatted(field));
+    }
+
+}
@@ -4,7 +4,7 @@ public class PostNotFoundException extends RuntimeException {
     private static final String DEFAULT_MESSAGE = "Post with id %s not found.";
 
     public PostNotFoundException(String id) {
-        super(DEFAULT_MESSAGE.formatted(id));
+        super(DEFAULT_MESSAGE.formatted(id), null, false, false);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.laporeon.posts_api.exceptions;
+
+public class WriteQueueFullException extends RuntimeException {
+    private static final String DEFAULT_MESSAGE = "Post write queue is not accepting new posts. Retry later.";
+
+    public WriteQueueFullException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+}
@@ -1,10 +1,13 @@
 package com.laporeon.posts_api.mappers;
 
+import com.laporeon.posts_api.dto.response.CursorPageResponseDTO;
 import com.laporeon.posts_api.dto.response.PageResponseDTO;
 import com.laporeon.posts_api.dto.response.PostResponseDTO;
 import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.utils.PostCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -34,4 +37,44 @@ public class PageMapper {
                 posts.getSort().isUnsorted()
         );
     }
+
+    public PageResponseDTO<PostResponseDTO> toDTO(Slice<Post> posts) {
+        List<PostResponseDTO> content = posts.getContent()
+                                             .stream()
+                                             .map(postMapper::toDTO)
+                                             .toList();
+
+        return new PageResponseDTO<>(
+                content,
+                posts.getNumber(),
+                posts.getSize(),
+                null,
+                null,
+                posts.getNumberOfElements(),
+                posts.isFirst(),
+                posts.isLast(),
+                !posts.hasContent(),
+                posts.getSort().isSorted(),
+                posts.getSort().isUnsorted()
+        );
+    }
+
+    public CursorPageResponseDTO<PostResponseDTO> toCursorDTO(List<Post> posts, PostCursor cursor, int size) {
+        boolean hasNext = posts.size() > size;
+        List<Post> page = hasNext ? posts.subList(0, size) : posts;
+
+        List<PostResponseDTO> content = page.stream()
+                                            .map(postMapper::toDTO)
+                                            .toList();
+
+        String nextCursor = hasNext ? cursor.after(page.get(page.size() - 1)).encode() : null;
+
+        return new CursorPageResponseDTO<>(
+                content,
+                size,
+                content.size(),
+                nextCursor,
+                hasNext
+        );
+    }
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ public class PostMapper {
                 post.getTitle(),
                 post.getDescription(),
                 post.getBody(),
+                post.getAuthor(),
                 post.getCreatedAt(),
                 post.getUpdatedAt()
         );
@@ -25,6 +26,7 @@ public class PostMapper {
                 .title(dto.title())
                 .description(dto.description())
                 .body(dto.body())
+                .author(dto.author())
                 .build();
     }
 
@@ -0,0 +1,724 @@
+package com.laporeon.posts_api.repositories;
+
+import com.laporeon.posts_api.config.ChangeFeedProperties;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.entities.PostTombstone;
+import com.laporeon.posts_api.search.PostTerms;
+import com.laporeon.posts_api.utils.ChangeToken;
+import com.laporeon.posts_api.utils.PostCursor;
+import com.laporeon.posts_api.utils.PostSortField;
+import com.laporeon.posts_api.utils.Slices;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.data.support.ExampleMatcherAccessor;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryPostRepository implements PostRepository {
+
+    private static final String ID = "id";
+
+    private static final Comparator<Object> VALUE_ORDER = Comparator.nullsFirst(InMemoryPostRepository::compareValues);
+
+    private static final Map<String, Function<Post, Object>> PROPERTIES = Map.of(
+            ID, Post::getId,
+            "title", Post::getTitle,
+            "description", Post::getDescription,
+            "body", Post::getBody,
+            "author", Post::getAuthor,
+            "createdAt", Post::getCreatedAt,
+            "updatedAt", Post::getUpdatedAt);
+
+    private final ConcurrentSkipListMap<String, Post> posts = new ConcurrentSkipListMap<>();
+
+    private final Map<PostSortField, ConcurrentSkipListMap<IndexKey, Post>> indexes = new EnumMap<>(PostSortField.class);
+
+    private final Map<String, ConcurrentSkipListMap<IndexKey, Post>> authorIndexes = new ConcurrentHashMap<>();
+
+    private final ConcurrentSkipListMap<IndexKey, PostTombstone> tombstones = new ConcurrentSkipListMap<>();
+
+    private final Lock writeLock = new ReentrantLock();
+
+    private final ChangeFeedProperties changeFeedProperties;
+
+    public InMemoryPostRepository(ChangeFeedProperties changeFeedProperties) {
+        this.changeFeedProperties = changeFeedProperties;
+        for (PostSortField field : PostSortField.values()) {
+            indexes.put(field, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    @Override
+    public Slice<Post> findAllBy(Pageable pageable) {
+        return slice(ordered(pageable.getSort()).map(this::copy), pageable);
+    }
+
+    @Override
+    public Slice<PostVersion> findVersionsBy(Pageable pageable) {
+        return slice(ordered(pageable.getSort()).map(Version::of), pageable);
+    }
+
+    @Override
+    public Optional<PostVersion> findVersionById(String id) {
+        return Optional.ofNullable(posts.get(id)).map(Version::of);
+    }
+
+    @Override
+    public Stream<Post> streamAllBy() {
+        return posts.values().stream().map(this::copy);
+    }
+
+    @Override
+    public List<Post> findAfter(PostCursor cursor, int limit) {
+        return after(indexes.get(cursor.field()), cursor, limit);
+    }
+
+    @Override
+    public List<Post> findAfterByAuthor(String author, PostCursor cursor, int limit) {
+        ConcurrentSkipListMap<IndexKey, Post> index = authorIndexes.get(author);
+        if (index == null) {
+            return List.of();
+        }
+        return after(index, cursor, limit);
+    }
+
+    @Override
+    public Slice<Post> search(String text, Pageable pageable) {
+        Set<String> terms = PostTerms.tokenize(text).collect(Collectors.toSet());
+
+        List<Post> rows = posts.values()
+                               .stream()
+                               .map(post -> Map.entry(post, score(post, terms)))
+                               .filter(entry -> entry.getValue() > 0)
+                               .sorted(Map.Entry.<Post, Integer>comparingByValue(Comparator.reverseOrder())
+                                                .thenComparing(entry -> entry.getKey().getId()))
+                               .skip(pageable.getOffset())
+                               .limit(pageable.getPageSize() + 1)
+                               .map(entry -> copy(entry.getKey()))
+                               .toList();
+
+        return Slices.of(rows, pageable);
+    }
+
+    @Override
+    public Stream<Post> streamUpdatedSince(Instant updatedSince, int batchSize) {
+        ConcurrentSkipListMap<IndexKey, Post> index = indexes.get(PostSortField.UPDATED_AT);
+        NavigableMap<IndexKey, Post> view = updatedSince == null
+                ? index
+                : index.tailMap(new IndexKey(updatedSince, null), true);
+        return view.values().stream().map(this::copy);
+    }
+
+    @Override
+    public Stream<String> streamIds() {
+        return posts.keySet().stream();
+    }
+
+    @Override
+    public List<Post> findChangedAfter(ChangeToken token, Instant until, int limit) {
+        return changedAfter(indexes.get(PostSortField.UPDATED_AT), token, until).values()
+                                                                             .stream()
+                                                                             .limit(limit)
+                                                                             .map(this::copy)
+                                                                             .toList();
+    }
+
+    @Override
+    public List<PostTombstone> findDeletedAfter(ChangeToken token, Instant until, int limit) {
+        return changedAfter(tombstones, token, until).values().stream().limit(limit).toList();
+    }
+
+    @Override
+    public long estimatedCount() {
+        return posts.size();
+    }
+
+    @Override
+    public long countByAuthor(String author) {
+        ConcurrentSkipListMap<IndexKey, Post> index = authorIndexes.get(author);
+        return index == null ? 0 : index.size();
+    }
+
+    @Override
+    public PostWriteResult bulkWrite(List<PostWrite> writes) {
+        Map<Integer, String> errors = new HashMap<>();
+        Set<Integer> missing = new HashSet<>();
+        Set<Integer> duplicates = new HashSet<>();
+
+        writeLock.lock();
+        try {
+            for (int position = 0; position < writes.size(); position++) {
+                Post post = writes.get(position).post();
+                switch (writes.get(position).type()) {
+                    case INSERT -> {
+                        if (posts.containsKey(post.getId())) {
+                            errors.put(position, duplicateKeyMessage(post.getId()));
+                            duplicates.add(position);
+                        } else {
+                            store(copy(post));
+                        }
+                    }
+                    case UPDATE -> {
+                        if (applyContent(post).isEmpty()) {
+                            missing.add(position);
+                        }
+                    }
+                    case DELETE -> {
+                        if (remove(post.getId()) == null) {
+                            missing.add(position);
+                        }
+                    }
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        return new PostWriteResult(errors, missing, duplicates);
+    }
+
+    @Override
+    public Optional<Post> updateContent(Post changes) {
+        writeLock.lock();
+        try {
+            return applyContent(changes).map(this::copy);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Post> removeById(String id) {
+        writeLock.lock();
+        try {
+            return Optional.ofNullable(remove(id));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public <S extends Post> S save(S entity) {
+        writeLock.lock();
+        try {
+            audit(entity);
+            store(copy(entity));
+            return entity;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public <S extends Post> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        entities.forEach(entity -> saved.add(save(entity)));
+        return saved;
+    }
+
+    @Override
+    public <S extends Post> S insert(S entity) {
+        writeLock.lock();
+        try {
+            if (entity.getId() != null && posts.containsKey(entity.getId())) {
+                throw new DuplicateKeyException(duplicateKeyMessage(entity.getId()));
+            }
+            audit(entity);
+            store(copy(entity));
+            return entity;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public <S extends Post> List<S> insert(Iterable<S> entities) {
+        List<S> inserted = new ArrayList<>();
+        entities.forEach(entity -> inserted.add(insert(entity)));
+        return inserted;
+    }
+
+    @Override
+    public Optional<Post> findById(String id) {
+        return Optional.ofNullable(posts.get(id)).map(this::copy);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return posts.containsKey(id);
+    }
+
+    @Override
+    public List<Post> findAll() {
+        return posts.values().stream().map(this::copy).toList();
+    }
+
+    @Override
+    public List<Post> findAll(Sort sort) {
+        return ordered(sort).map(this::copy).toList();
+    }
+
+    @Override
+    public Page<Post> findAll(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(findAll(pageable.getSort()));
+        }
+
+        List<Post> content = ordered(pageable.getSort())
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(this::copy)
+                .toList();
+        return new PageImpl<>(content, pageable, posts.size());
+    }
+
+    @Override
+    public List<Post> findAllById(Iterable<String> ids) {
+        Set<String> wanted = new LinkedHashSet<>();
+        ids.forEach(wanted::add);
+        return wanted.stream()
+                     .map(posts::get)
+                     .filter(Objects::nonNull)
+                     .map(this::copy)
+                     .toList();
+    }
+
+    @Override
+    public long count() {
+        return posts.size();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        removeById(id);
+    }
+
+    @Override
+    public void delete(Post entity) {
+        removeById(entity.getId());
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        ids.forEach(this::removeById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Post> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        writeLock.lock();
+        try {
+            posts.clear();
+            indexes.values().forEach(Map::clear);
+            authorIndexes.clear();
+            tombstones.clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public <S extends Post> Optional<S> findOne(Example<S> example) {
+        return matching(example, Sort.unsorted()).findFirst();
+    }
+
+    @Override
+    public <S extends Post> List<S> findAll(Example<S> example) {
+        return matching(example, Sort.unsorted()).toList();
+    }
+
+    @Override
+    public <S extends Post> List<S> findAll(Example<S> example, Sort sort) {
+        return matching(example, sort).toList();
+    }
+
+    @Override
+    public <S extends Post> Page<S> findAll(Example<S> example, Pageable pageable) {
+        return page(matching(example, pageable.getSort()).toList(), pageable);
+    }
+
+    @Override
+    public <S extends Post> long count(Example<S> example) {
+        return matching(example, Sort.unsorted()).count();
+    }
+
+    @Override
+    public <S extends Post> boolean exists(Example<S> example) {
+        return matching(example, Sort.unsorted()).findAny().isPresent();
+    }
+
+    @Override
+    public <S extends Post, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        return queryFunction.apply(new ExampleQuery<>(example, example.getProbeType(), Sort.unsorted(), 0));
+    }
+
+    private <S extends Post> Stream<S> matching(Example<S> example, Sort sort) {
+        Predicate<Post> matches = matcher(example);
+        return ordered(sort).filter(matches).map(this::copy).map(example.getProbeType()::cast);
+    }
+
+    private Predicate<Post> matcher(Example<? extends Post> example) {
+        ExampleMatcherAccessor accessor = new ExampleMatcherAccessor(example.getMatcher());
+        List<Predicate<Post>> criteria = new ArrayList<>();
+
+        PROPERTIES.forEach((path, property) -> {
+            if (accessor.isIgnoredPath(path)) {
+                return;
+            }
+            Object expected = accessor.getValueTransformerForPath(path)
+                                      .apply(Optional.ofNullable(property.apply(example.getProbe())))
+                                      .orElse(null);
+            if (expected != null) {
+                criteria.add(post -> matchesValue(property.apply(post), expected, accessor, path));
+            } else if (accessor.getNullHandler() == ExampleMatcher.NullHandler.INCLUDE) {
+                criteria.add(post -> property.apply(post) == null);
+            }
+        });
+
+        if (criteria.isEmpty()) {
+            return post -> true;
+        }
+        return example.getMatcher().isAllMatching()
+                ? post -> criteria.stream().allMatch(criterion -> criterion.test(post))
+                : post -> criteria.stream().anyMatch(criterion -> criterion.test(post));
+    }
+
+    private boolean matchesValue(Object actual, Object expected, ExampleMatcherAccessor accessor, String path) {
+        if (!(actual instanceof String text) || !(expected instanceof String wanted)) {
+            return Objects.equals(actual, expected);
+        }
+
+        boolean ignoreCase = accessor.isIgnoreCaseForPath(path);
+        String value = ignoreCase ? text.toLowerCase(Locale.ROOT) : text;
+        String pattern = ignoreCase ? wanted.toLowerCase(Locale.ROOT) : wanted;
+
+        return switch (accessor.getStringMatcherForPath(path)) {
+            case DEFAULT, EXACT -> value.equals(pattern);
+            case STARTING -> value.startsWith(pattern);
+            case ENDING -> value.endsWith(pattern);
+            case CONTAINING -> value.contains(pattern);
+            case REGEX -> Pattern.compile(wanted, ignoreCase ? Pattern.CASE_INSENSITIVE : 0).matcher(text).find();
+        };
+    }
+
+    private <T> Page<T> page(List<T> rows, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(rows);
+        }
+
+        List<T> content = rows.stream()
+                              .skip(pageable.getOffset())
+                              .limit(pageable.getPageSize())
+                              .toList();
+        return new PageImpl<>(content, pageable, rows.size());
+    }
+
+    private Stream<Post> ordered(Sort sort) {
+        if (sort.isUnsorted()) {
+            return posts.values().stream();
+        }
+
+        List<Sort.Order> orders = sort.toList();
+        Sort.Order first = orders.get(0);
+        boolean ascending = first.isAscending();
+        boolean tiebrokenById = orders.size() == 1
+                || orders.size() == 2 && isIdOrder(orders.get(1), first.getDirection());
+
+        if (first.getProperty().equals(ID) && orders.size() == 1) {
+            return (ascending ? posts : posts.descendingMap()).values().stream();
+        }
+
+        for (PostSortField field : PostSortField.values()) {
+            if (field.getProperty().equals(first.getProperty()) && tiebrokenById) {
+                ConcurrentSkipListMap<IndexKey, Post> index = indexes.get(field);
+                return (ascending ? index : index.descendingMap()).values().stream();
+            }
+        }
+
+        return posts.values().stream().sorted(comparator(sort));
+    }
+
+    private boolean isIdOrder(Sort.Order order, Sort.Direction direction) {
+        return order.getProperty().equals(ID) && order.getDirection() == direction;
+    }
+
+    private Comparator<Post> comparator(Sort sort) {
+        Comparator<Post> comparator = (left, right) -> 0;
+        for (Sort.Order order : sort) {
+            Function<Post, Object> property = PROPERTIES.get(order.getProperty());
+            if (property == null) {
+                continue;
+            }
+            Comparator<Post> byProperty = Comparator.comparing(property, VALUE_ORDER);
+            comparator = comparator.thenComparing(order.isAscending() ? byProperty : byProperty.reversed());
+        }
+        return comparator;
+    }
+
+    private <T> Slice<T> slice(Stream<T> rows, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(rows.toList(), pageable, false);
+        }
+        return Slices.of(rows.skip(pageable.getOffset()).limit(pageable.getPageSize() + 1).toList(), pageable);
+    }
+
+    private int score(Post post, Set<String> terms) {
+        Map<String, Integer> weights = PostTerms.weights(post);
+        return terms.stream().mapToInt(term -> weights.getOrDefault(term, 0)).sum();
+    }
+
+    private void audit(Post entity) {
+        Instant now = Instant.now();
+        if (entity.getId() == null) {
+            entity.setId(new ObjectId().toHexString());
+            entity.setCreatedAt(now);
+        }
+        entity.setUpdatedAt(now);
+    }
+
+    private Optional<Post> applyContent(Post changes) {
+        Post current = posts.get(changes.getId());
+        if (current == null || changes.getAuthor() != null && !changes.getAuthor().equals(current.getAuthor())) {
+            return Optional.empty();
+        }
+
+        Post updated = current.toBuilder()
+                              .title(changes.getTitle())
+                              .description(changes.getDescription())
+                              .body(changes.getBody())
+                              .updatedAt(changes.getUpdatedAt())
+                              .build();
+        store(updated);
+        return Optional.of(updated);
+    }
+
+    private void store(Post post) {
+        Post previous = posts.put(post.getId(), post);
+        indexes.forEach((field, index) -> {
+            if (previous != null) {
+                index.remove(IndexKey.of(field, previous));
+            }
+            index.put(IndexKey.of(field, post), post);
+        });
+        if (previous != null && previous.getAuthor() != null) {
+            authorIndexes.get(previous.getAuthor()).remove(IndexKey.of(PostSortField.CREATED_AT, previous));
+        }
+        if (post.getAuthor() != null) {
+            authorIndexes.computeIfAbsent(post.getAuthor(), author -> new ConcurrentSkipListMap<>())
+                         .put(IndexKey.of(PostSortField.CREATED_AT, post), post);
+        }
+    }
+
+    private Post remove(String id) {
+        Post previous = posts.remove(id);
+        if (previous != null) {
+            indexes.forEach((field, index) -> index.remove(IndexKey.of(field, previous)));
+            if (previous.getAuthor() != null) {
+                authorIndexes.get(previous.getAuthor()).remove(IndexKey.of(PostSortField.CREATED_AT, previous));
+            }
+            Instant deletedAt = Instant.now();
+            tombstones.headMap(new IndexKey(deletedAt.minus(changeFeedProperties.tombstoneRetention()), null)).clear();
+            tombstones.put(new IndexKey(deletedAt, id), new PostTombstone(id, deletedAt));
+        }
+        return previous;
+    }
+
+    private List<Post> after(ConcurrentSkipListMap<IndexKey, Post> index, PostCursor cursor, int limit) {
+        boolean ascending = cursor.direction().isAscending();
+
+        NavigableMap<IndexKey, Post> view;
+        if (cursor.isFirst()) {
+            view = ascending ? index : index.descendingMap();
+        } else {
+            IndexKey last = new IndexKey(cursor.lastValue(), cursor.lastId());
+            view = ascending ? index.tailMap(last, false) : index.headMap(last, false).descendingMap();
+        }
+
+        return view.values().stream().limit(limit).map(this::copy).toList();
+    }
+
+    private <T> NavigableMap<IndexKey, T> changedAfter(ConcurrentSkipListMap<IndexKey, T> index,
+                                                       ChangeToken token,
+                                                       Instant until) {
+        NavigableMap<IndexKey, T> view = token.isFirst()
+                ? index
+                : index.tailMap(new IndexKey(token.timestamp(), token.lastId()), false);
+        return view.headMap(new IndexKey(until, null), false);
+    }
+
+    private Post copy(Post post) {
+        return post.toBuilder().build();
+    }
+
+    private String duplicateKeyMessage(String id) {
+        return "E11000 duplicate key error collection: posts index: _id_ dup key: { _id: \"%s\" }".formatted(id);
+    }
+
+    private static int compareValues(Object left, Object right) {
+        if (left instanceof Instant instant && right instanceof Instant other) {
+            return instant.compareTo(other);
+        }
+        if (left instanceof String text && right instanceof String other) {
+            return text.compareTo(other);
+        }
+        throw new IllegalArgumentException("Cannot compare %s with %s.".formatted(
+                left.getClass().getSimpleName(), right.getClass().getSimpleName()));
+    }
+
+    private record IndexKey(Object value, String id) implements Comparable<IndexKey> {
+
+        private static IndexKey of(PostSortField field, Post post) {
+            return new IndexKey(field.valueOf(post), post.getId());
+        }
+
+        @Override
+        public int compareTo(IndexKey other) {
+            int byValue = VALUE_ORDER.compare(value, other.value);
+            return byValue != 0 ? byValue : VALUE_ORDER.compare(id, other.id);
+        }
+    }
+
+    private final class ExampleQuery<T> implements FluentQuery.FetchableFluentQuery<T> {
+
+        private final Example<? extends Post> example;
+
+        private final Class<T> resultType;
+
+        private final Sort sort;
+
+        private final int limit;
+
+        private ExampleQuery(Example<? extends Post> example, Class<T> resultType, Sort sort, int limit) {
+            this.example = example;
+            this.resultType = resultType;
+            this.sort = sort;
+            this.limit = limit;
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> sortBy(Sort sort) {
+            return new ExampleQuery<>(example, resultType, this.sort.and(sort), limit);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> limit(int limit) {
+            return new ExampleQuery<>(example, resultType, sort, limit);
+        }
+
+        @Override
+        public <R> FluentQuery.FetchableFluentQuery<R> as(Class<R> resultType) {
+            if (!resultType.isAssignableFrom(Post.class)) {
+                throw new UnsupportedOperationException("Projections are not supported by the in-memory repository.");
+            }
+            return new ExampleQuery<>(example, resultType, sort, limit);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> project(Collection<String> properties) {
+            return this;
+        }
+
+        @Override
+        public T oneValue() {
+            List<T> rows = stream().limit(2).toList();
+            if (rows.size() > 1) {
+                throw new IncorrectResultSizeDataAccessException(1);
+            }
+            return rows.isEmpty() ? null : rows.getFirst();
+        }
+
+        @Override
+        public T firstValue() {
+            return stream().findFirst().orElse(null);
+        }
+
+        @Override
+        public List<T> all() {
+            return stream().toList();
+        }
+
+        @Override
+        public Page<T> page(Pageable pageable) {
+            Sort pageSort = pageable.getSort().isSorted() ? pageable.getSort() : sort;
+            return InMemoryPostRepository.this.page(rows(pageSort).toList(), pageable);
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return rows(sort);
+        }
+
+        @Override
+        public long count() {
+            return stream().count();
+        }
+
+        @Override
+        public boolean exists() {
+            return stream().findAny().isPresent();
+        }
+
+        private Stream<T> rows(Sort sort) {
+            Stream<Post> rows = ordered(sort).filter(matcher(example)).map(InMemoryPostRepository.this::copy);
+            return (limit > 0 ? rows.limit(limit) : rows).map(resultType::cast);
+        }
+    }
+
+    private record Version(String id, Instant updatedAt) implements PostVersion {
+
+        private static Version of(Post post) {
+            return new Version(post.getId(), post.getUpdatedAt());
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public Instant getUpdatedAt() {
+            return updatedAt;
+        }
+    }
+}
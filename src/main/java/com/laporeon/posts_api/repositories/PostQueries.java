@@ -0,0 +1,154 @@
+package com.laporeon.posts_api.repositories;
+
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.utils.ChangeToken;
+import com.laporeon.posts_api.utils.PostCursor;
+import com.laporeon.posts_api.utils.PostSortField;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.Collection;
+
+final class PostQueries {
+
+    private static final String ID = "id";
+
+    private static final String AUTHOR = "author";
+
+    private static final String DELETED_AT = "deletedAt";
+
+    private PostQueries() {
+    }
+
+    static Query slice(Pageable pageable) {
+        return new Query()
+                .with(pageable.getSort())
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1);
+    }
+
+    static Query search(String text, Pageable pageable) {
+        return TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(text))
+                        .sortByScore()
+                        .with(Sort.by(ID))
+                        .skip(pageable.getOffset())
+                        .limit(pageable.getPageSize() + 1);
+    }
+
+    static Query updatedSince(Instant updatedSince, int batchSize) {
+        Query query = new Query()
+                .with(PostSortField.UPDATED_AT.sort(Sort.Direction.ASC))
+                .cursorBatchSize(batchSize);
+
+        if (updatedSince != null) {
+            query.addCriteria(Criteria.where(PostSortField.UPDATED_AT.getProperty()).gte(updatedSince));
+        }
+
+        return query;
+    }
+
+    static Query ids() {
+        Query query = new Query();
+        query.fields().include(ID);
+        return query;
+    }
+
+    static Query after(PostCursor cursor, int limit) {
+        return after(new Query(), cursor, limit);
+    }
+
+    static Query afterByAuthor(String author, PostCursor cursor, int limit) {
+        return after(byAuthor(author), cursor, limit);
+    }
+
+    private static Query after(Query query, PostCursor cursor, int limit) {
+        String property = cursor.field().getProperty();
+        Sort.Direction direction = cursor.direction();
+
+        query.with(cursor.field().sort(direction))
+             .limit(limit);
+
+        if (!cursor.isFirst()) {
+            Object value = cursor.lastValue();
+            Criteria after = direction.isAscending()
+                    ? Criteria.where(property).gt(value)
+                    : Criteria.where(property).lt(value);
+            Criteria tie = direction.isAscending()
+                    ? Criteria.where(property).is(value).and(ID).gt(cursor.lastId())
+                    : Criteria.where(property).is(value).and(ID).lt(cursor.lastId());
+            query.addCriteria(new Criteria().orOperator(after, tie));
+        }
+
+        return query;
+    }
+
+    static Query changedAfter(ChangeToken token, Instant until, int limit) {
+        return feed(PostSortField.UPDATED_AT.getProperty(), token, until, limit);
+    }
+
+    static Query deletedAfter(ChangeToken token, Instant until, int limit) {
+        return feed(DELETED_AT, token, until, limit);
+    }
+
+    private static Query feed(String property, ChangeToken token, Instant until, int limit) {
+        Query query = new Query(Criteria.where(property).lt(until))
+                .with(Sort.by(property, ID))
+                .limit(limit);
+
+        if (!token.isFirst()) {
+            Criteria after = Criteria.where(property).gt(token.timestamp());
+            Criteria tie = Criteria.where(property).is(token.timestamp()).and(ID).gt(token.lastId());
+            query.addCriteria(new Criteria().orOperator(after, tie));
+        }
+
+        return query;
+    }
+
+    static Query contentTarget(Post changes) {
+        Query query = byId(changes.getId());
+        if (changes.getAuthor() != null) {
+            query.addCriteria(Criteria.where(AUTHOR).is(changes.getAuthor()));
+        }
+        return query;
+    }
+
+    static Update contentUpdate(Post post) {
+        return new Update()
+                .set("title", post.getTitle())
+                .set("description", post.getDescription())
+                .set("body", post.getBody())
+                .set("updatedAt", post.getUpdatedAt());
+    }
+
+    static Update tombstone(Instant deletedAt) {
+        return new Update().set(DELETED_AT, deletedAt);
+    }
+
+    static Update pendingTombstone(Instant deletedAt) {
+        return new Update().setOnInsert(DELETED_AT, deletedAt);
+    }
+
+    static Query tombstoneAt(String id, Instant deletedAt) {
+        return byId(id).addCriteria(Criteria.where(DELETED_AT).is(deletedAt));
+    }
+
+    static Query byAuthor(String author) {
+        return Query.query(Criteria.where(AUTHOR).is(author));
+    }
+
+    static Query idsIn(Collection<String> ids) {
+        Query query = Query.query(Criteria.where(ID).in(ids));
+        query.fields().include(ID);
+        return query;
+    }
+
+    static Query byId(String id) {
+        return Query.query(Criteria.where(ID).is(id));
+    }
+}
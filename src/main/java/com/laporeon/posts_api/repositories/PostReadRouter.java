@@ -0,0 +1,71 @@
+package com.laporeon.posts_api.repositories;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.mongodb.client.MongoClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoOperations;
+
+import java.time.Duration;
+
+public class PostReadRouter implements AutoCloseable {
+
+    private final MongoClient secondaryClient;
+
+    private final MongoOperations secondary;
+
+    private final Cache<String, Boolean> recentWrites;
+
+    private final Counter pinned;
+
+    private final Counter fallbacks;
+
+    public PostReadRouter(MongoClient secondaryClient,
+                          MongoOperations secondary,
+                          Duration maxStaleness,
+                          MeterRegistry meterRegistry) {
+        this.secondaryClient = secondaryClient;
+        this.secondary = secondary;
+        this.recentWrites = Caffeine.newBuilder()
+                                    .expireAfterWrite(maxStaleness)
+                                    .build();
+        this.pinned = Counter.builder("posts.read.routing")
+                             .description("Post reads sent to the primary because the post was written recently")
+                             .tag("reason", "recent-write")
+                             .register(meterRegistry);
+        this.fallbacks = Counter.builder("posts.read.routing")
+                                .description("Post reads retried on the primary after a secondary found nothing")
+                                .tag("reason", "not-found-on-secondary")
+                                .register(meterRegistry);
+    }
+
+    public MongoOperations secondary() {
+        return secondary;
+    }
+
+    public boolean isPinned(String id) {
+        if (recentWrites.getIfPresent(id) == null) {
+            return false;
+        }
+
+        pinned.increment();
+        return true;
+    }
+
+    public void recordFallback() {
+        fallbacks.increment();
+    }
+
+    @EventListener
+    public void onPostChanged(PostChangedEvent event) {
+        recentWrites.put(event.id(), Boolean.TRUE);
+    }
+
+    @Override
+    public void close() {
+        secondaryClient.close();
+    }
+}
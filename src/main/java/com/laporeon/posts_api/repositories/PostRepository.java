@@ -3,5 +3,14 @@ package com.laporeon.posts_api.repositories;
 import com.laporeon.posts_api.entities.Post;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
-public interface PostRepository extends MongoRepository<Post, String> {
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface PostRepository extends MongoRepository<Post, String>, PostRepositoryCustom {
+
+    @Override
+    Optional<Post> findById(String id);
+
+    Stream<Post> streamAllBy();
+
 }
@@ -0,0 +1,50 @@
+package com.laporeon.posts_api.repositories;
+
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.entities.PostTombstone;
+import com.laporeon.posts_api.utils.ChangeToken;
+import com.laporeon.posts_api.utils.PostCursor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface PostRepositoryCustom {
+
+    Slice<Post> findAllBy(Pageable pageable);
+
+    Slice<PostVersion> findVersionsBy(Pageable pageable);
+
+    Optional<Post> findById(String id);
+
+    Optional<PostVersion> findVersionById(String id);
+
+    List<Post> findAfter(PostCursor cursor, int limit);
+
+    List<Post> findAfterByAuthor(String author, PostCursor cursor, int limit);
+
+    Slice<Post> search(String text, Pageable pageable);
+
+    Stream<Post> streamUpdatedSince(Instant updatedSince, int batchSize);
+
+    Stream<String> streamIds();
+
+    List<Post> findChangedAfter(ChangeToken token, Instant until, int limit);
+
+    List<PostTombstone> findDeletedAfter(ChangeToken token, Instant until, int limit);
+
+    long estimatedCount();
+
+    long countByAuthor(String author);
+
+    PostWriteResult bulkWrite(List<PostWrite> writes);
+
+    Optional<Post> updateContent(Post changes);
+
+    Optional<Post> removeById(String id);
+
+}
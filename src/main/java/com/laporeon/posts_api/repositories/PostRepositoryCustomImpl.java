@@ -0,0 +1,293 @@
+package com.laporeon.posts_api.repositories;
+
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.entities.PostTombstone;
+import com.laporeon.posts_api.utils.ChangeToken;
+import com.laporeon.posts_api.utils.PostCursor;
+import com.laporeon.posts_api.utils.Slices;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.laporeon.posts_api.repositories.PostQueries.byId;
+import static com.laporeon.posts_api.repositories.PostQueries.contentTarget;
+import static com.laporeon.posts_api.repositories.PostQueries.contentUpdate;
+import static com.laporeon.posts_api.repositories.PostQueries.pendingTombstone;
+import static com.laporeon.posts_api.repositories.PostQueries.tombstone;
+import static com.laporeon.posts_api.repositories.PostQueries.tombstoneAt;
+
+public class PostRepositoryCustomImpl implements PostRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    private final PostReadRouter readRouter;
+
+    public PostRepositoryCustomImpl(MongoTemplate mongoTemplate, ObjectProvider<PostReadRouter> readRouter) {
+        this.mongoTemplate = mongoTemplate;
+        this.readRouter = readRouter.getIfAvailable();
+    }
+
+    @Override
+    public Slice<Post> findAllBy(Pageable pageable) {
+        return Slices.of(reads().find(PostQueries.slice(pageable), Post.class), pageable);
+    }
+
+    @Override
+    public Slice<PostVersion> findVersionsBy(Pageable pageable) {
+        List<PostVersion> versions = reads().query(Post.class)
+                                            .as(PostVersion.class)
+                                            .matching(PostQueries.slice(pageable))
+                                            .all();
+        return Slices.of(versions, pageable);
+    }
+
+    @Override
+    public Optional<Post> findById(String id) {
+        return readById(id, operations -> operations.findOne(byId(id), Post.class));
+    }
+
+    @Override
+    public Optional<PostVersion> findVersionById(String id) {
+        return readById(id, operations -> operations.query(Post.class)
+                                                    .as(PostVersion.class)
+                                                    .matching(byId(id))
+                                                    .oneValue());
+    }
+
+    @Override
+    public List<Post> findAfter(PostCursor cursor, int limit) {
+        return reads().find(PostQueries.after(cursor, limit), Post.class);
+    }
+
+    @Override
+    public List<Post> findAfterByAuthor(String author, PostCursor cursor, int limit) {
+        return reads().find(PostQueries.afterByAuthor(author, cursor, limit), Post.class);
+    }
+
+    @Override
+    public Slice<Post> search(String text, Pageable pageable) {
+        return Slices.of(mongoTemplate.find(PostQueries.search(text, pageable), Post.class), pageable);
+    }
+
+    @Override
+    public Stream<Post> streamUpdatedSince(Instant updatedSince, int batchSize) {
+        return reads().stream(PostQueries.updatedSince(updatedSince, batchSize), Post.class);
+    }
+
+    @Override
+    public Stream<String> streamIds() {
+        return mongoTemplate.stream(PostQueries.ids(), Post.class).map(Post::getId);
+    }
+
+    @Override
+    public List<Post> findChangedAfter(ChangeToken token, Instant until, int limit) {
+        return mongoTemplate.find(PostQueries.changedAfter(token, until, limit), Post.class);
+    }
+
+    @Override
+    public List<PostTombstone> findDeletedAfter(ChangeToken token, Instant until, int limit) {
+        return mongoTemplate.find(PostQueries.deletedAfter(token, until, limit), PostTombstone.class);
+    }
+
+    @Override
+    public long estimatedCount() {
+        return mongoTemplate.estimatedCount(Post.class);
+    }
+
+    @Override
+    public long countByAuthor(String author) {
+        return mongoTemplate.count(PostQueries.byAuthor(author), Post.class);
+    }
+
+    @Override
+    public PostWriteResult bulkWrite(List<PostWrite> writes) {
+        if (writes.isEmpty()) {
+            return PostWriteResult.of(Map.of());
+        }
+
+        Instant pendingAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        Set<String> previouslyDeleted = recordPendingDeletions(writes, pendingAt);
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Post.class);
+
+        for (PostWrite write : writes) {
+            Post post = write.post();
+            switch (write.type()) {
+                case INSERT -> operations.insert(post);
+                case UPDATE -> operations.updateOne(byId(post.getId()), contentUpdate(post));
+                case DELETE -> operations.remove(byId(post.getId()));
+            }
+        }
+
+        Map<Integer, String> errors = new HashMap<>();
+        Set<Integer> duplicates = new HashSet<>();
+        BulkWriteResult result;
+        try {
+            result = operations.execute();
+        } catch (BulkOperationException ex) {
+            ex.getErrors().forEach(error -> {
+                errors.put(error.getIndex(), error.getMessage());
+                if (ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+                    duplicates.add(error.getIndex());
+                }
+            });
+            result = ex.getResult();
+        }
+
+        List<Integer> updates = positions(writes, PostWrite.Type.UPDATE, errors);
+        List<Integer> deletes = positions(writes, PostWrite.Type.DELETE, errors);
+        Set<Integer> missing = new HashSet<>();
+
+        if (result.getMatchedCount() < updates.size()) {
+            Set<String> present = existingIds(writes, updates);
+            updates.stream()
+                   .filter(position -> !present.contains(writes.get(position).post().getId()))
+                   .forEach(missing::add);
+        }
+
+        int deletedElsewhere = deletes.size() - result.getDeletedCount();
+        if (deletedElsewhere > 0) {
+            List<Integer> alreadyDeleted = deletes.stream()
+                                                  .filter(position -> previouslyDeleted.contains(writes.get(position).post().getId()))
+                                                  .toList();
+            if (alreadyDeleted.size() == deletedElsewhere) {
+                missing.addAll(alreadyDeleted);
+            }
+        }
+
+        dropPendingDeletions(errors.keySet().stream()
+                                   .filter(position -> writes.get(position).type() == PostWrite.Type.DELETE)
+                                   .map(position -> writes.get(position).post().getId())
+                                   .filter(id -> !previouslyDeleted.contains(id))
+                                   .toList(), pendingAt);
+        recordDeletions(deletes.stream()
+                               .filter(position -> !missing.contains(position))
+                               .map(position -> writes.get(position).post().getId())
+                               .toList());
+
+        return new PostWriteResult(errors, missing, duplicates);
+    }
+
+    @Override
+    public Optional<Post> updateContent(Post changes) {
+        Post post = mongoTemplate.findAndModify(
+                contentTarget(changes),
+                contentUpdate(changes),
+                FindAndModifyOptions.options().returnNew(true),
+                Post.class);
+        return Optional.ofNullable(post);
+    }
+
+    @Override
+    public Optional<Post> removeById(String id) {
+        Instant pendingAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        mongoTemplate.upsert(byId(id), pendingTombstone(pendingAt), PostTombstone.class);
+
+        Post removed = mongoTemplate.findAndRemove(byId(id), Post.class);
+        if (removed == null) {
+            mongoTemplate.remove(tombstoneAt(id, pendingAt), PostTombstone.class);
+            return Optional.empty();
+        }
+
+        mongoTemplate.upsert(byId(id), tombstone(Instant.now()), PostTombstone.class);
+        return Optional.of(removed);
+    }
+
+    private List<Integer> positions(List<PostWrite> writes, PostWrite.Type type, Map<Integer, String> errors) {
+        return IntStream.range(0, writes.size())
+                        .filter(position -> writes.get(position).type() == type)
+                        .filter(position -> !errors.containsKey(position))
+                        .boxed()
+                        .toList();
+    }
+
+    private Set<String> existingIds(List<PostWrite> writes, List<Integer> positions) {
+        List<String> ids = positions.stream().map(position -> writes.get(position).post().getId()).toList();
+        return mongoTemplate.find(PostQueries.idsIn(ids), Post.class)
+                            .stream()
+                            .map(Post::getId)
+                            .collect(Collectors.toSet());
+    }
+
+    private Set<String> recordPendingDeletions(List<PostWrite> writes, Instant pendingAt) {
+        List<String> ids = writes.stream()
+                                 .filter(write -> write.type() == PostWrite.Type.DELETE)
+                                 .map(write -> write.post().getId())
+                                 .toList();
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+
+        BulkOperations tombstones = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostTombstone.class);
+        ids.forEach(id -> tombstones.upsert(byId(id), pendingTombstone(pendingAt)));
+        Set<Integer> inserted = tombstones.execute()
+                                          .getUpserts()
+                                          .stream()
+                                          .map(BulkWriteUpsert::getIndex)
+                                          .collect(Collectors.toSet());
+
+        return IntStream.range(0, ids.size())
+                        .filter(index -> !inserted.contains(index))
+                        .mapToObj(ids::get)
+                        .collect(Collectors.toSet());
+    }
+
+    private void dropPendingDeletions(List<String> ids, Instant pendingAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        BulkOperations tombstones = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostTombstone.class);
+        ids.forEach(id -> tombstones.remove(tombstoneAt(id, pendingAt)));
+        tombstones.execute();
+    }
+
+    private void recordDeletions(List<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        Instant deletedAt = Instant.now();
+        BulkOperations tombstones = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostTombstone.class);
+        ids.forEach(id -> tombstones.upsert(byId(id), tombstone(deletedAt)));
+        tombstones.execute();
+    }
+
+    private MongoOperations reads() {
+        return readRouter == null ? mongoTemplate : readRouter.secondary();
+    }
+
+    private <T> Optional<T> readById(String id, Function<MongoOperations, T> query) {
+        if (readRouter == null || readRouter.isPinned(id)) {
+            return Optional.ofNullable(query.apply(mongoTemplate));
+        }
+
+        T found = query.apply(readRouter.secondary());
+        if (found != null) {
+            return Optional.of(found);
+        }
+
+        readRouter.recordFallback();
+        return Optional.ofNullable(query.apply(mongoTemplate));
+    }
+}
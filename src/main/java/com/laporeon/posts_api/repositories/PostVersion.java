@@ -0,0 +1,11 @@
+package com.laporeon.posts_api.repositories;
+
+import java.time.Instant;
+
+public interface PostVersion {
+
+    String getId();
+
+    Instant getUpdatedAt();
+
+}
@@ -0,0 +1,24 @@
+package com.laporeon.posts_api.repositories;
+
+import com.laporeon.posts_api.entities.Post;
+
+public record PostWrite(Type type, Post post) {
+
+    public enum Type {
+        INSERT,
+        UPDATE,
+        DELETE
+    }
+
+    public static PostWrite insert(Post post) {
+        return new PostWrite(Type.INSERT, post);
+    }
+
+    public static PostWrite update(Post post) {
+        return new PostWrite(Type.UPDATE, post);
+    }
+
+    public static PostWrite delete(Post post) {
+        return new PostWrite(Type.DELETE, post);
+    }
+}
@@ -0,0 +1,11 @@
+package com.laporeon.posts_api.repositories;
+
+import java.util.Map;
+import java.util.Set;
+
+public record PostWriteResult(Map<Integer, String> errors, Set<Integer> missing, Set<Integer> duplicates) {
+
+    public static PostWriteResult of(Map<Integer, String> errors) {
+        return new PostWriteResult(errors, Set.of(), Set.of());
+    }
+}
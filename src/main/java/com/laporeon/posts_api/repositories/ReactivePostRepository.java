@@ -0,0 +1,8 @@
+package com.laporeon.posts_api.repositories;
+
+import com.laporeon.posts_api.entities.Post;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+public interface ReactivePostRepository extends ReactiveMongoRepository<Post, String>, ReactivePostRepositoryCustom {
+
+}
@@ -0,0 +1,21 @@
+package com.laporeon.posts_api.repositories;
+
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.utils.PostCursor;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactivePostRepositoryCustom {
+
+    Flux<Post> findSlice(Pageable pageable);
+
+    Flux<Post> findAfter(PostCursor cursor, int limit);
+
+    Mono<Long> estimatedCount();
+
+    Mono<Post> updateContent(Post changes);
+
+    Mono<Post> removeById(String id);
+
+}
@@ -0,0 +1,63 @@
+package com.laporeon.posts_api.repositories;
+
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.entities.PostTombstone;
+import com.laporeon.posts_api.utils.PostCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static com.laporeon.posts_api.repositories.PostQueries.byId;
+import static com.laporeon.posts_api.repositories.PostQueries.contentTarget;
+import static com.laporeon.posts_api.repositories.PostQueries.contentUpdate;
+import static com.laporeon.posts_api.repositories.PostQueries.pendingTombstone;
+import static com.laporeon.posts_api.repositories.PostQueries.tombstone;
+import static com.laporeon.posts_api.repositories.PostQueries.tombstoneAt;
+
+@RequiredArgsConstructor
+public class ReactivePostRepositoryCustomImpl implements ReactivePostRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Flux<Post> findSlice(Pageable pageable) {
+        return reactiveMongoTemplate.find(PostQueries.slice(pageable), Post.class);
+    }
+
+    @Override
+    public Flux<Post> findAfter(PostCursor cursor, int limit) {
+        return reactiveMongoTemplate.find(PostQueries.after(cursor, limit), Post.class);
+    }
+
+    @Override
+    public Mono<Long> estimatedCount() {
+        return reactiveMongoTemplate.estimatedCount(Post.class);
+    }
+
+    @Override
+    public Mono<Post> updateContent(Post changes) {
+        return reactiveMongoTemplate.findAndModify(
+                contentTarget(changes),
+                contentUpdate(changes),
+                FindAndModifyOptions.options().returnNew(true),
+                Post.class);
+    }
+
+    @Override
+    public Mono<Post> removeById(String id) {
+        Instant pendingAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        return reactiveMongoTemplate.upsert(byId(id), pendingTombstone(pendingAt), PostTombstone.class)
+                                    .then(reactiveMongoTemplate.findAndRemove(byId(id), Post.class))
+                                    .flatMap(removed -> reactiveMongoTemplate.upsert(byId(id), tombstone(Instant.now()), PostTombstone.class)
+                                                                             .thenReturn(removed))
+                                    .switchIfEmpty(reactiveMongoTemplate.remove(tombstoneAt(id, pendingAt), PostTombstone.class)
+                                                                        .then(Mono.empty()));
+    }
+}
@@ -0,0 +1,169 @@
+package com.laporeon.posts_api.search;
+
+import com.laporeon.posts_api.config.BackgroundThreads;
+import com.laporeon.posts_api.config.SearchProperties;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.repositories.PostRepository;
+import com.laporeon.posts_api.utils.Slices;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PostSearchIndex {
+
+    private final boolean enabled;
+
+    private final PostRepository postRepository;
+
+    private final BackgroundThreads backgroundThreads;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+
+    private final Map<String, Post> documents = new HashMap<>();
+
+    private final Set<String> changedDuringRebuild = new HashSet<>();
+
+    private boolean rebuilding;
+
+    private volatile boolean ready;
+
+    public PostSearchIndex(SearchProperties properties, PostRepository postRepository, BackgroundThreads backgroundThreads) {
+        this.enabled = properties.inMemoryIndex();
+        this.postRepository = postRepository;
+        this.backgroundThreads = backgroundThreads;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+
+        backgroundThreads.start("post-search-index", this::rebuild);
+    }
+
+    void rebuild() {
+        withWriteLock(() -> {
+            postings.clear();
+            documents.clear();
+            changedDuringRebuild.clear();
+            rebuilding = true;
+        });
+
+        try (Stream<Post> posts = postRepository.streamAllBy()) {
+            posts.forEach(post -> withWriteLock(() -> {
+                if (!changedDuringRebuild.contains(post.getId())) {
+                    index(post);
+                }
+            }));
+            ready = true;
+            log.info("Search index built with {} posts", documents.size());
+        } catch (RuntimeException ex) {
+            log.warn("Could not build the search index, falling back to MongoDB: {}", ex.getMessage());
+        } finally {
+            withWriteLock(() -> {
+                rebuilding = false;
+                changedDuringRebuild.clear();
+            });
+        }
+    }
+
+    @EventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        withWriteLock(() -> {
+            if (rebuilding) {
+                changedDuringRebuild.add(event.id());
+            }
+            remove(event.id());
+            if (event.type() != PostChangedEvent.ChangeType.DELETED) {
+                index(event.post());
+            }
+        });
+    }
+
+    public Slice<Post> search(String text, Pageable pageable) {
+        Set<String> terms = PostTerms.tokenize(text).collect(Collectors.toSet());
+
+        lock.readLock().lock();
+        try {
+            Map<String, Integer> scores = new HashMap<>();
+            for (String term : terms) {
+                postings.getOrDefault(term, Map.of()).forEach((id, weight) -> scores.merge(id, weight, Integer::sum));
+            }
+
+            List<Post> rows = scores.entrySet()
+                                    .stream()
+                                    .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                                                     .thenComparing(Map.Entry.comparingByKey()))
+                                    .skip(pageable.getOffset())
+                                    .limit(pageable.getPageSize() + 1)
+                                    .map(entry -> documents.get(entry.getKey()))
+                                    .toList();
+
+            return Slices.of(rows, pageable);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(Post post) {
+        documents.put(post.getId(), post);
+        PostTerms.weights(post).forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>())
+                                                                  .put(post.getId(), weight));
+    }
+
+    private void remove(String id) {
+        Post previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+
+        for (String term : PostTerms.weights(previous).keySet()) {
+            Map<String, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.laporeon.posts_api.search;
+
+import com.laporeon.posts_api.entities.Post;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+public final class PostTerms {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final int TITLE_WEIGHT = 3;
+
+    private static final int DESCRIPTION_WEIGHT = 2;
+
+    private static final int BODY_WEIGHT = 1;
+
+    private PostTerms() {
+    }
+
+    public static Map<String, Integer> weights(Post post) {
+        Map<String, Integer> weights = new HashMap<>();
+        tokenize(post.getTitle()).forEach(term -> weights.merge(term, TITLE_WEIGHT, Integer::sum));
+        tokenize(post.getDescription()).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+        tokenize(post.getBody()).forEach(term -> weights.merge(term, BODY_WEIGHT, Integer::sum));
+        return weights;
+    }
+
+    public static Stream<String> tokenize(String text) {
+        if (text == null) {
+            return Stream.empty();
+        }
+        return SEPARATOR.splitAsStream(text.toLowerCase(Locale.ROOT))
+                        .filter(term -> !term.isEmpty());
+    }
+}
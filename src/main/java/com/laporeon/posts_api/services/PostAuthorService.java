@@ -0,0 +1,47 @@
+package com.laporeon.posts_api.services;
+
+import com.laporeon.posts_api.cache.AuthorPostCache;
+import com.laporeon.posts_api.dto.response.AuthorResponseDTO;
+import com.laporeon.posts_api.dto.response.CursorPageResponseDTO;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.exceptions.InvalidCursorException;
+import com.laporeon.posts_api.mappers.PageMapper;
+import com.laporeon.posts_api.repositories.PostRepository;
+import com.laporeon.posts_api.utils.PostCursor;
+import com.laporeon.posts_api.utils.PostSortField;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class PostAuthorService {
+
+    private final PostRepository postRepository;
+
+    private final PageMapper pageMapper;
+
+    private final AuthorPostCache authorPostCache;
+
+    public CursorPageResponseDTO<PostResponseDTO> listPosts(String author, PostCursor cursor, int size) {
+        if (cursor.field() != PostSortField.CREATED_AT) {
+            throw new InvalidCursorException(cursor.encode());
+        }
+
+        if (cursor.isFirst()) {
+            return authorPostCache.firstPage(author, cursor.direction(), size, () -> load(author, cursor, size));
+        }
+
+        return load(author, cursor, size);
+    }
+
+    public AuthorResponseDTO findAuthor(String author) {
+        long numberOfPosts = authorPostCache.count(author, () -> postRepository.countByAuthor(author));
+        return new AuthorResponseDTO(author, numberOfPosts);
+    }
+
+    private CursorPageResponseDTO<PostResponseDTO> load(String author, PostCursor cursor, int size) {
+        return pageMapper.toCursorDTO(postRepository.findAfterByAuthor(author, cursor, size + 1), cursor, size);
+    }
+}
@@ -0,0 +1,194 @@
+package com.laporeon.posts_api.services;
+
+import com.laporeon.posts_api.dto.request.BulkOperationDTO;
+import com.laporeon.posts_api.dto.request.BulkRequestDTO;
+import com.laporeon.posts_api.dto.response.BulkItemResultDTO;
+import com.laporeon.posts_api.dto.response.BulkResponseDTO;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.exceptions.AuthorChangeNotAllowedException;
+import com.laporeon.posts_api.exceptions.PostNotFoundException;
+import com.laporeon.posts_api.mappers.PostMapper;
+import com.laporeon.posts_api.repositories.PostRepository;
+import com.laporeon.posts_api.repositories.PostWrite;
+import com.laporeon.posts_api.repositories.PostWriteResult;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class PostBulkService {
+
+    static final String WRITE_FAILED_MESSAGE = "An unexpected error occurred";
+
+    private final PostRepository postRepository;
+
+    private final PostMapper postMapper;
+
+    private final Validator validator;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BulkResponseDTO bulk(BulkRequestDTO dto) {
+        List<BulkOperationDTO> operations = dto.operations();
+        BulkItemResultDTO[] results = new BulkItemResultDTO[operations.size()];
+
+        Map<String, Post> existing = loadExisting(operations);
+        Instant now = Instant.now();
+
+        List<PostWrite> writes = new ArrayList<>();
+        List<Integer> writeIndexes = new ArrayList<>();
+
+        for (int index = 0; index < operations.size(); index++) {
+            BulkOperationDTO operation = operations.get(index);
+            String error = validate(operation);
+            if (error != null) {
+                results[index] = failure(index, operation, HttpStatus.BAD_REQUEST, error);
+                continue;
+            }
+            if (changesAuthor(operation, existing.get(operation.id()))) {
+                results[index] = failure(index, operation, HttpStatus.BAD_REQUEST,
+                        new AuthorChangeNotAllowedException(operation.id()).getMessage());
+                continue;
+            }
+
+            PostWrite write = switch (operation.action()) {
+                case CREATE -> {
+                    Post post = postMapper.toEntity(operation.post());
+                    post.setId(new ObjectId().toHexString());
+                    post.setCreatedAt(now);
+                    post.setUpdatedAt(now);
+                    yield PostWrite.insert(post);
+                }
+                case UPDATE -> {
+                    Post post = existing.get(operation.id());
+                    if (post == null) {
+                        yield null;
+                    }
+                    Post updated = postMapper.updateEntityFromDTO(operation.post(), copyOf(post));
+                    updated.setUpdatedAt(now);
+                    yield PostWrite.update(updated);
+                }
+                case DELETE -> {
+                    Post post = existing.get(operation.id());
+                    yield post == null ? null : PostWrite.delete(post);
+                }
+            };
+
+            if (write == null) {
+                results[index] = failure(index, operation, HttpStatus.NOT_FOUND,
+                        new PostNotFoundException(operation.id()).getMessage());
+                continue;
+            }
+
+            writes.add(write);
+            writeIndexes.add(index);
+        }
+
+        PostWriteResult written = postRepository.bulkWrite(writes);
+
+        for (int position = 0; position < writes.size(); position++) {
+            int index = writeIndexes.get(position);
+            PostWrite write = writes.get(position);
+            BulkOperationDTO operation = operations.get(index);
+
+            String error = written.errors().get(position);
+            if (error != null) {
+                log.error("Bulk {} of post {} failed: {}", operation.action(), write.post().getId(), error);
+                results[index] = failure(index, operation, HttpStatus.INTERNAL_SERVER_ERROR, WRITE_FAILED_MESSAGE);
+                continue;
+            }
+            if (written.missing().contains(position)) {
+                results[index] = failure(index, operation, HttpStatus.NOT_FOUND,
+                        new PostNotFoundException(operation.id()).getMessage());
+                continue;
+            }
+
+            results[index] = new BulkItemResultDTO(
+                    index,
+                    operation.action(),
+                    write.post().getId(),
+                    operation.action() == BulkOperationDTO.Action.CREATE ? HttpStatus.CREATED.value() : HttpStatus.OK.value(),
+                    null);
+            eventPublisher.publishEvent(switch (write.type()) {
+                case INSERT -> PostChangedEvent.created(write.post());
+                case UPDATE -> PostChangedEvent.updated(write.post());
+                case DELETE -> PostChangedEvent.deleted(write.post());
+            });
+        }
+
+        List<BulkItemResultDTO> items = Arrays.asList(results);
+        boolean hasErrors = items.stream().anyMatch(item -> item.error() != null);
+        return new BulkResponseDTO(hasErrors, items);
+    }
+
+    private Map<String, Post> loadExisting(List<BulkOperationDTO> operations) {
+        List<String> ids = operations.stream()
+                                     .filter(operation -> operation.action() != BulkOperationDTO.Action.CREATE)
+                                     .map(BulkOperationDTO::id)
+                                     .filter(Objects::nonNull)
+                                     .distinct()
+                                     .toList();
+
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return postRepository.findAllById(ids)
+                             .stream()
+                             .collect(Collectors.toMap(Post::getId, Function.identity()));
+    }
+
+    private String validate(BulkOperationDTO operation) {
+        if (operation.action() != BulkOperationDTO.Action.CREATE && operation.id() == null) {
+            return "Id is required.";
+        }
+        if (operation.action() == BulkOperationDTO.Action.DELETE) {
+            return null;
+        }
+        if (operation.post() == null) {
+            return "Post is required.";
+        }
+
+        return validator.validate(operation.post())
+                        .stream()
+                        .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                        .map(ConstraintViolation::getMessage)
+                        .reduce((first, second) -> first + " " + second)
+                        .orElse(null);
+    }
+
+    private boolean changesAuthor(BulkOperationDTO operation, Post post) {
+        return operation.action() == BulkOperationDTO.Action.UPDATE
+                && post != null
+                && operation.post().author() != null
+                && !operation.post().author().equals(post.getAuthor());
+    }
+
+    private Post copyOf(Post post) {
+        return post.toBuilder().build();
+    }
+
+    private BulkItemResultDTO failure(int index, BulkOperationDTO operation, HttpStatus status, String error) {
+        return new BulkItemResultDTO(index, operation.action(), operation.id(), status.value(), error);
+    }
+}
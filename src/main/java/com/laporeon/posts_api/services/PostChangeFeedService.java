@@ -0,0 +1,64 @@
+package com.laporeon.posts_api.services;
+
+import com.laporeon.posts_api.config.ChangeFeedProperties;
+import com.laporeon.posts_api.dto.response.ChangeFeedResponseDTO;
+import com.laporeon.posts_api.dto.response.PostChangeDTO;
+import com.laporeon.posts_api.exceptions.ChangeTokenExpiredException;
+import com.laporeon.posts_api.mappers.PostMapper;
+import com.laporeon.posts_api.repositories.PostRepository;
+import com.laporeon.posts_api.utils.ChangeToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class PostChangeFeedService {
+
+    private static final Comparator<PostChangeDTO> FEED_ORDER = Comparator.comparing(PostChangeDTO::changedAt)
+                                                                          .thenComparing(PostChangeDTO::id);
+
+    private final PostRepository postRepository;
+
+    private final PostMapper postMapper;
+
+    private final ChangeFeedProperties properties;
+
+    public ChangeFeedResponseDTO changesSince(String since, Integer size) {
+        ChangeToken token = since != null ? ChangeToken.decode(since) : ChangeToken.first();
+        Instant now = Instant.now();
+        if (!token.isFirst() && token.timestamp().isBefore(now.minus(properties.tombstoneRetention()))) {
+            throw new ChangeTokenExpiredException(since);
+        }
+
+        int limit = size != null && size > 0 ? Math.min(size, properties.maxPageSize()) : properties.defaultPageSize();
+        Instant until = now.minus(properties.settleTime());
+
+        Stream<PostChangeDTO> upserted = postRepository.findChangedAfter(token, until, limit + 1)
+                                                       .stream()
+                                                       .map(post -> PostChangeDTO.upserted(postMapper.toDTO(post)));
+        Stream<PostChangeDTO> deleted = postRepository.findDeletedAfter(token, until, limit + 1)
+                                                      .stream()
+                                                      .map(tombstone -> PostChangeDTO.deleted(tombstone.getId(),
+                                                                                              tombstone.getDeletedAt()));
+
+        List<PostChangeDTO> changes = Stream.concat(upserted, deleted)
+                                            .sorted(FEED_ORDER)
+                                            .limit(limit + 1)
+                                            .toList();
+
+        boolean hasMore = changes.size() > limit;
+        List<PostChangeDTO> page = hasMore ? changes.subList(0, limit) : changes;
+        String nextToken = page.isEmpty()
+                ? since
+                : ChangeToken.after(page.getLast().changedAt(), page.getLast().id()).encode();
+
+        return new ChangeFeedResponseDTO(page, page.size(), nextToken, hasMore);
+    }
+}
@@ -0,0 +1,56 @@
+package com.laporeon.posts_api.services;
+
+import com.laporeon.posts_api.config.CountProperties;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.repositories.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class PostCounter {
+
+    private static final long NEVER = 0L;
+
+    private final PostRepository postRepository;
+
+    private final AsyncTaskExecutor taskExecutor;
+
+    private final CountProperties properties;
+
+    private final AtomicLong estimate = new AtomicLong();
+
+    private final AtomicLong refreshedAt = new AtomicLong(NEVER);
+
+    public long estimated() {
+        long now = System.nanoTime();
+        long last = refreshedAt.get();
+        if (last == NEVER || now - last > properties.estimateTtl().toNanos()) {
+            if (refreshedAt.compareAndSet(last, now)) {
+                estimate.set(postRepository.estimatedCount());
+            }
+        }
+        return estimate.get();
+    }
+
+    public CompletableFuture<Long> exactAsync() {
+        return CompletableFuture.supplyAsync(postRepository::count, taskExecutor);
+    }
+
+    @EventListener
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> estimate.incrementAndGet();
+            case DELETED -> estimate.updateAndGet(current -> Math.max(0, current - 1));
+            default -> {
+            }
+        }
+    }
+}
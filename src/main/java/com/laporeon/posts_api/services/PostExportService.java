@@ -0,0 +1,63 @@
+package com.laporeon.posts_api.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.laporeon.posts_api.config.ExportProperties;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.mappers.PostMapper;
+import com.laporeon.posts_api.repositories.PostRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PostExportService {
+
+    private final PostRepository postRepository;
+
+    private final PostMapper postMapper;
+
+    private final ObjectWriter writer;
+
+    private final ExportProperties properties;
+
+    public PostExportService(PostRepository postRepository,
+                             PostMapper postMapper,
+                             ObjectMapper objectMapper,
+                             ExportProperties properties) {
+        this.postRepository = postRepository;
+        this.postMapper = postMapper;
+        this.writer = objectMapper.writerFor(PostResponseDTO.class)
+                                  .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.properties = properties;
+    }
+
+    public long export(Instant updatedSince, Integer batchSize, OutputStream out) throws IOException {
+        int flushEvery = batchSize != null && batchSize > 0 ? batchSize : properties.batchSize();
+        long exported = 0;
+
+        try (JsonGenerator generator = writer.createGenerator(out);
+             Stream<Post> posts = postRepository.streamUpdatedSince(updatedSince, flushEvery)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            for (Post post : (Iterable<Post>) posts::iterator) {
+                writer.writeValue(generator, postMapper.toDTO(post));
+                generator.writeRaw('\n');
+                if (++exported % flushEvery == 0) {
+                    generator.flush();
+                }
+            }
+        }
+
+        return exported;
+    }
+}
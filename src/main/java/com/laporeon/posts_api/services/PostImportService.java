@@ -0,0 +1,227 @@
+package com.laporeon.posts_api.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.laporeon.posts_api.config.ImportProperties;
+import com.laporeon.posts_api.dto.request.PostRequestDTO;
+import com.laporeon.posts_api.dto.response.ImportLineErrorDTO;
+import com.laporeon.posts_api.dto.response.ImportResponseDTO;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.mappers.PostMapper;
+import com.laporeon.posts_api.repositories.PostRepository;
+import com.laporeon.posts_api.repositories.PostWrite;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PostImportService {
+
+    private final PostRepository postRepository;
+
+    private final PostMapper postMapper;
+
+    private final ObjectReader reader;
+
+    private final Validator validator;
+
+    private final AsyncTaskExecutor taskExecutor;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ImportProperties properties;
+
+    public PostImportService(PostRepository postRepository,
+                             PostMapper postMapper,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             AsyncTaskExecutor taskExecutor,
+                             ApplicationEventPublisher eventPublisher,
+                             ImportProperties properties) {
+        this.postRepository = postRepository;
+        this.postMapper = postMapper;
+        this.reader = objectMapper.readerFor(PostRequestDTO.class);
+        this.validator = validator;
+        this.taskExecutor = taskExecutor;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+    }
+
+    public ImportResponseDTO importPosts(InputStream body) throws IOException {
+        Report report = new Report(properties.maxReportedErrors());
+        Deque<CompletableFuture<BatchResult>> inFlight = new ArrayDeque<>();
+        List<PendingPost> batch = new ArrayList<>(properties.batchSize());
+
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                report.received++;
+
+                PostRequestDTO dto;
+                try {
+                    dto = reader.readValue(line);
+                } catch (JsonProcessingException ex) {
+                    report.fail(lineNumber, "Line is not a valid post JSON document.");
+                    continue;
+                }
+
+                String error = validate(dto);
+                if (error != null) {
+                    report.fail(lineNumber, error);
+                    continue;
+                }
+
+                batch.add(new PendingPost(lineNumber, toEntity(dto)));
+                if (batch.size() == properties.batchSize()) {
+                    submit(batch, inFlight, report);
+                    batch = new ArrayList<>(properties.batchSize());
+                }
+            }
+        } finally {
+            if (!batch.isEmpty()) {
+                submit(batch, inFlight, report);
+            }
+            while (!inFlight.isEmpty()) {
+                report.merge(inFlight.poll().join());
+            }
+        }
+
+        return report.toDTO();
+    }
+
+    private void submit(List<PendingPost> batch, Deque<CompletableFuture<BatchResult>> inFlight, Report report) {
+        while (inFlight.size() >= properties.maxInFlightBatches()) {
+            report.merge(inFlight.poll().join());
+        }
+        inFlight.add(CompletableFuture.supplyAsync(() -> write(batch), taskExecutor));
+    }
+
+    private BatchResult write(List<PendingPost> batch) {
+        Instant now = Instant.now();
+        batch.forEach(pending -> {
+            pending.post().setCreatedAt(now);
+            pending.post().setUpdatedAt(now);
+        });
+
+        Map<Integer, String> errors;
+        try {
+            errors = postRepository.bulkWrite(batch.stream()
+                                                   .map(pending -> PostWrite.insert(pending.post()))
+                                                   .toList())
+                                   .errors();
+        } catch (RuntimeException ex) {
+            log.error("Import of lines {} to {} failed: {}",
+                      batch.getFirst().line(), batch.getLast().line(), ex.getMessage());
+            return new BatchResult(0, batch.stream()
+                                           .map(pending -> new ImportLineErrorDTO(pending.line(), PostBulkService.WRITE_FAILED_MESSAGE))
+                                           .toList());
+        }
+
+        long imported = 0;
+        List<ImportLineErrorDTO> failures = new ArrayList<>();
+        for (int position = 0; position < batch.size(); position++) {
+            PendingPost pending = batch.get(position);
+            String error = errors.get(position);
+            if (error != null) {
+                log.error("Import of line {} (post {}) failed: {}", pending.line(), pending.post().getId(), error);
+                failures.add(new ImportLineErrorDTO(pending.line(), PostBulkService.WRITE_FAILED_MESSAGE));
+                continue;
+            }
+            imported++;
+            publishCreated(pending.post());
+        }
+
+        return new BatchResult(imported, failures);
+    }
+
+    private void publishCreated(Post post) {
+        try {
+            eventPublisher.publishEvent(PostChangedEvent.created(post));
+        } catch (RuntimeException ex) {
+            log.warn("Could not publish creation of imported post {}: {}", post.getId(), ex.getMessage());
+        }
+    }
+
+    private Post toEntity(PostRequestDTO dto) {
+        Post post = postMapper.toEntity(dto);
+        post.setId(new ObjectId().toHexString());
+        return post;
+    }
+
+    private String validate(PostRequestDTO dto) {
+        return validator.validate(dto)
+                        .stream()
+                        .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                        .map(ConstraintViolation::getMessage)
+                        .reduce((first, second) -> first + " " + second)
+                        .orElse(null);
+    }
+
+    private record PendingPost(long line, Post post) {
+    }
+
+    private record BatchResult(long imported, List<ImportLineErrorDTO> errors) {
+    }
+
+    private static final class Report {
+
+        private final int maxReportedErrors;
+
+        private final List<ImportLineErrorDTO> errors = new ArrayList<>();
+
+        private long received;
+
+        private long imported;
+
+        private long failed;
+
+        private Report(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void fail(long line, String error) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportLineErrorDTO(line, error));
+            }
+        }
+
+        private void merge(BatchResult result) {
+            imported += result.imported();
+            result.errors().forEach(error -> fail(error.line(), error.error()));
+        }
+
+        private ImportResponseDTO toDTO() {
+            errors.sort(Comparator.comparingLong(ImportLineErrorDTO::line));
+            return new ImportResponseDTO(received, imported, failed, errors);
+        }
+    }
+}
@@ -1,56 +1,290 @@
 package com.laporeon.posts_api.services;
 
+import com.laporeon.posts_api.cache.HotPageStore;
+import com.laporeon.posts_api.cache.PostCache;
+import com.laporeon.posts_api.cache.PostLookupFilter;
+import com.laporeon.posts_api.cache.PostReadCoalescer;
 import com.laporeon.posts_api.dto.request.PostRequestDTO;
+import com.laporeon.posts_api.dto.response.CacheStatsDTO;
+import com.laporeon.posts_api.dto.response.CursorPageResponseDTO;
+import com.laporeon.posts_api.dto.response.MultiGetItemDTO;
+import com.laporeon.posts_api.dto.response.MultiGetResponseDTO;
 import com.laporeon.posts_api.dto.response.PageResponseDTO;
 import com.laporeon.posts_api.dto.response.PostResponseDTO;
 import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.exceptions.AuthorChangeNotAllowedException;
+import com.laporeon.posts_api.exceptions.InvalidSearchQueryException;
 import com.laporeon.posts_api.exceptions.PostNotFoundException;
 import com.laporeon.posts_api.mappers.PostMapper;
 import com.laporeon.posts_api.mappers.PageMapper;
 import com.laporeon.posts_api.repositories.PostRepository;
+import com.laporeon.posts_api.repositories.PostVersion;
+import com.laporeon.posts_api.search.PostSearchIndex;
+import com.laporeon.posts_api.utils.CountMode;
+import com.laporeon.posts_api.utils.PostCursor;
+import com.laporeon.posts_api.utils.PostETags;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final String TIMER = "posts.service";
+
     private final PostRepository postRepository;
 
     private final PostMapper postMapper;
 
     private final PageMapper paginationMapper;
 
+    private final PostCounter postCounter;
+
+    private final PostCache postCache;
+
+    private final PostReadCoalescer postReadCoalescer;
+
+    private final HotPageStore hotPageStore;
+
+    private final PostLookupFilter postLookupFilter;
+
+    private final PostSearchIndex postSearchIndex;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Timed(value = TIMER, histogram = true)
     public PostResponseDTO create(PostRequestDTO dto) {
         Post post = postRepository.save(postMapper.toEntity(dto));
+        eventPublisher.publishEvent(PostChangedEvent.created(post));
         return postMapper.toDTO(post);
     }
 
-    public PageResponseDTO<PostResponseDTO> listPosts(Pageable pageable) {
-        Page<Post> posts = postRepository.findAll(pageable);
-        PageResponseDTO<PostResponseDTO> pageResponseDTO = paginationMapper.toDTO(posts);
-        return pageResponseDTO;
+    @Timed(value = TIMER, histogram = true)
+    public PageResponseDTO<PostResponseDTO> listPosts(Pageable pageable, CountMode countMode) {
+        PageResponseDTO<PostResponseDTO> hot = hotPageStore.find(pageable);
+        if (hot != null) {
+            return withTotal(hot, pageable, countMode);
+        }
+
+        return postReadCoalescer.listPosts(pageable, countMode, () -> loadPage(pageable, countMode));
+    }
+
+    private PageResponseDTO<PostResponseDTO> withTotal(PageResponseDTO<PostResponseDTO> page,
+                                                       Pageable pageable,
+                                                       CountMode countMode) {
+        if (countMode == CountMode.NONE) {
+            return page;
+        }
+
+        CompletableFuture<Long> exactTotal = countMode == CountMode.EXACT && !page.isLastPage()
+                ? postCounter.exactAsync()
+                : null;
+        long total = resolveTotal(pageable.getOffset() + page.numberOfElements(), !page.isLastPage(), exactTotal);
+
+        PageImpl<PostResponseDTO> counted = new PageImpl<>(page.content(), pageable, total);
+        return new PageResponseDTO<>(
+                page.content(),
+                page.pageNumber(),
+                page.pageSize(),
+                counted.getTotalPages(),
+                counted.getTotalElements(),
+                page.numberOfElements(),
+                page.isFirstPage(),
+                page.isLastPage(),
+                page.isEmpty(),
+                page.isSorted(),
+                page.isUnsorted());
+    }
+
+    private PageResponseDTO<PostResponseDTO> loadPage(Pageable pageable, CountMode countMode) {
+        CompletableFuture<Long> exactTotal = countMode == CountMode.EXACT ? postCounter.exactAsync() : null;
+
+        Slice<Post> posts = postRepository.findAllBy(pageable);
+
+        if (countMode == CountMode.NONE) {
+            return paginationMapper.toDTO(posts);
+        }
+
+        long total = resolveTotal(posts, exactTotal);
+        return paginationMapper.toDTO(new PageImpl<>(posts.getContent(), pageable, total));
+    }
+
+    public String pageETag(Pageable pageable, CountMode countMode) {
+        CompletableFuture<Long> exactTotal = countMode == CountMode.EXACT ? postCounter.exactAsync() : null;
+
+        Slice<PostVersion> versions = postRepository.findVersionsBy(pageable);
+
+        Long totalElements = countMode == CountMode.NONE
+                ? null
+                : new PageImpl<>(versions.getContent(), pageable, resolveTotal(versions, exactTotal)).getTotalElements();
+
+        return PostETags.ofPage(
+                versions.stream()
+                        .map(version -> PostETags.version(version.getId(), version.getUpdatedAt()))
+                        .toList(),
+                versions.isLast(),
+                totalElements);
+    }
+
+    public String pageETag(PageResponseDTO<PostResponseDTO> page) {
+        return PostETags.ofPage(page);
+    }
+
+    private long resolveTotal(Slice<?> slice, CompletableFuture<Long> exactTotal) {
+        long known = slice.getPageable().getOffset() + slice.getNumberOfElements();
+        return resolveTotal(known, slice.hasNext(), exactTotal);
+    }
+
+    private long resolveTotal(long known, boolean hasNext, CompletableFuture<Long> exactTotal) {
+        if (!hasNext) {
+            return known;
+        }
+        if (exactTotal != null) {
+            return exactTotal.join();
+        }
+        return Math.max(postCounter.estimated(), known + 1);
+    }
+
+    @Timed(value = TIMER, histogram = true)
+    public CursorPageResponseDTO<PostResponseDTO> listPosts(PostCursor cursor, int size) {
+        List<Post> posts = postRepository.findAfter(cursor, size + 1);
+        return paginationMapper.toCursorDTO(posts, cursor, size);
+    }
+
+    @Timed(value = TIMER, histogram = true)
+    public PageResponseDTO<PostResponseDTO> search(String query, Pageable pageable) {
+        if (query.isBlank()) {
+            throw new InvalidSearchQueryException();
+        }
+
+        Slice<Post> posts = postSearchIndex.isReady()
+                ? postSearchIndex.search(query, pageable)
+                : postRepository.search(query, pageable);
+        return paginationMapper.toDTO(posts);
     }
 
+    @Timed(value = TIMER, histogram = true)
     public PostResponseDTO findById(String id) {
-        Post post = postRepository.findById(id).orElseThrow(() -> new PostNotFoundException(id));
-        return postMapper.toDTO(post);
+        if (postLookupFilter.isAbsent(id)) {
+            throw new PostNotFoundException(id);
+        }
+
+        PostResponseDTO cached = postCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        return postReadCoalescer.findById(id, () -> load(id));
     }
 
+    private PostResponseDTO load(String id) {
+        long ticket = postCache.ticket();
+        Post post = postRepository.findById(id).orElseThrow(() -> notFound(id));
+        PostResponseDTO postResponseDTO = postMapper.toDTO(post);
+        postCache.put(id, postResponseDTO, ticket);
+        return postResponseDTO;
+    }
+
+    @Timed(value = TIMER, histogram = true)
+    public MultiGetResponseDTO findAllById(List<String> ids) {
+        Map<String, PostResponseDTO> resolved = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String id : new LinkedHashSet<>(ids)) {
+            if (postLookupFilter.isAbsent(id)) {
+                continue;
+            }
+
+            PostResponseDTO cached = postCache.get(id);
+            if (cached != null) {
+                resolved.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            long ticket = postCache.ticket();
+            for (Post post : postRepository.findAllById(misses)) {
+                PostResponseDTO postResponseDTO = postMapper.toDTO(post);
+                postCache.put(post.getId(), postResponseDTO, ticket);
+                resolved.put(post.getId(), postResponseDTO);
+            }
+        }
+
+        List<MultiGetItemDTO> items = ids.stream()
+                                         .map(id -> new MultiGetItemDTO(id, resolved.containsKey(id), resolved.get(id)))
+                                         .toList();
+        int found = (int) items.stream().filter(MultiGetItemDTO::found).count();
+        return new MultiGetResponseDTO(found, items);
+    }
+
+    public String findETag(String id) {
+        if (postLookupFilter.isAbsent(id)) {
+            throw new PostNotFoundException(id);
+        }
+
+        PostResponseDTO cached = postCache.get(id);
+        if (cached != null) {
+            return PostETags.of(cached.id(), cached.updatedAt());
+        }
+
+        PostVersion version = postRepository.findVersionById(id).orElseThrow(() -> notFound(id));
+        return PostETags.of(version.getId(), version.getUpdatedAt());
+    }
+
+    @Timed(value = TIMER, histogram = true)
     public PostResponseDTO update(String id, PostRequestDTO dto) {
-        Post post = postRepository.findById(id).orElseThrow(() -> new PostNotFoundException(id));
+        if (postLookupFilter.isAbsent(id)) {
+            throw new PostNotFoundException(id);
+        }
+
+        Post changes = postMapper.updateEntityFromDTO(dto, Post.builder()
+                                                              .id(id)
+                                                              .author(dto.author())
+                                                              .updatedAt(Instant.now())
+                                                              .build());
 
-        post = postRepository.save(postMapper.updateEntityFromDTO(dto, post));
+        Post post = postRepository.updateContent(changes).orElseThrow(() -> postRepository.existsById(id)
+                ? new AuthorChangeNotAllowedException(id)
+                : new PostNotFoundException(id));
+        eventPublisher.publishEvent(PostChangedEvent.updated(post));
 
         return postMapper.toDTO(post);
     }
 
+    @Timed(value = TIMER, histogram = true)
     public void delete(String id) {
-        postRepository.findById(id).orElseThrow(() -> new PostNotFoundException(id));
+        if (postLookupFilter.isAbsent(id)) {
+            throw new PostNotFoundException(id);
+        }
+
+        Post post = postRepository.removeById(id).orElseThrow(() -> new PostNotFoundException(id));
+        eventPublisher.publishEvent(PostChangedEvent.deleted(post));
+    }
+
+    private PostNotFoundException notFound(String id) {
+        postLookupFilter.recordFalsePositive();
+        return new PostNotFoundException(id);
+    }
 
-        postRepository.deleteById(id);
+    public CacheStatsDTO cacheStats() {
+        return postCache.stats();
     }
 
 }
@@ -0,0 +1,299 @@
+package com.laporeon.posts_api.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.laporeon.posts_api.config.StreamProperties;
+import com.laporeon.posts_api.dto.response.PostChangeDTO;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.mappers.PostMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PostStreamService implements AutoCloseable {
+
+    private static final String RESET_MESSAGE =
+            "Events after the given Last-Event-ID are no longer available. Resynchronize with /api/v1/posts/changes.";
+
+    private final StreamProperties properties;
+
+    private final PostMapper postMapper;
+
+    private final ObjectMapper objectMapper;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final Deque<Frame> replay = new ArrayDeque<>();
+
+    private final Lock publishLock = new ReentrantLock();
+
+    private final ExecutorService senders;
+
+    private final ScheduledExecutorService heartbeats;
+
+    private final Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+
+    private final Counter overflows;
+
+    private final Counter replayed;
+
+    private final Counter resets;
+
+    private long sequence;
+
+    public PostStreamService(StreamProperties properties,
+                             PostMapper postMapper,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.postMapper = postMapper;
+        this.objectMapper = objectMapper;
+        this.senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("post-stream-", 0).factory());
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("post-stream-heartbeat").daemon().factory());
+        long interval = properties.heartbeatInterval().toMillis();
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, interval, interval, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("posts.stream.subscribers", subscribers, Set::size)
+             .description("Open post change streams")
+             .register(meterRegistry);
+        this.overflows = Counter.builder("posts.stream.overflows")
+                                .description("Events that did not fit a subscriber buffer")
+                                .tag("policy", properties.overflowPolicy().name().toLowerCase())
+                                .register(meterRegistry);
+        this.replayed = Counter.builder("posts.stream.resumes")
+                               .description("Streams resumed by replaying missed events")
+                               .tag("outcome", "replayed")
+                               .register(meterRegistry);
+        this.resets = Counter.builder("posts.stream.resumes")
+                             .description("Streams that could not be resumed and were told to resynchronize")
+                             .tag("outcome", "reset")
+                             .register(meterRegistry);
+    }
+
+    public Optional<SseEmitter> subscribe(String lastEventId) {
+        if (subscribers.size() >= properties.maxSubscribers()) {
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        subscribe(lastEventId, emitter);
+        return Optional.of(emitter);
+    }
+
+    void subscribe(String lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        subscriber.enqueue(SseEmitter.event()
+                                     .comment("connected")
+                                     .reconnectTime(properties.heartbeatInterval().toMillis())
+                                     .build(), true);
+
+        publishLock.lock();
+        try {
+            if (lastEventId != null) {
+                resume(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onPostChanged(PostChangedEvent event) {
+        PostChangeDTO change = event.type() == PostChangedEvent.ChangeType.DELETED
+                ? PostChangeDTO.deleted(event.id(), Instant.now())
+                : PostChangeDTO.upserted(postMapper.toDTO(event.post()));
+
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException ex) {
+            log.warn("Could not serialize change of post {} for streaming: {}", event.id(), ex.getMessage());
+            return;
+        }
+
+        publishLock.lock();
+        try {
+            long id = ++sequence;
+            Frame frame = new Frame(id, SseEmitter.event()
+                                                  .id(epoch + "-" + id)
+                                                  .name(event.type().name().toLowerCase())
+                                                  .data(data, MediaType.APPLICATION_JSON)
+                                                  .build());
+            replay.addLast(frame);
+            if (replay.size() > properties.replaySize()) {
+                replay.removeFirst();
+            }
+            subscribers.forEach(subscriber -> subscriber.enqueue(frame.event(), false));
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    private void resume(Subscriber subscriber, String lastEventId) {
+        long last = parseSequence(lastEventId);
+        long oldest = replay.isEmpty() ? sequence + 1 : replay.getFirst().id();
+        if (last < 0 || last > sequence || last < oldest - 1) {
+            resets.increment();
+            subscriber.enqueue(reset(), true);
+            return;
+        }
+
+        List<Set<DataWithMediaType>> missed = new ArrayList<>();
+        replay.stream().filter(frame -> frame.id() > last).forEach(frame -> missed.add(frame.event()));
+        missed.forEach(event -> subscriber.enqueue(event, true));
+        replayed.increment();
+    }
+
+    private long parseSequence(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private Set<DataWithMediaType> reset() {
+        try {
+            return SseEmitter.event()
+                             .id(epoch + "-" + sequence)
+                             .name("reset")
+                             .data(objectMapper.writeValueAsString(Map.of("message", RESET_MESSAGE)),
+                                   MediaType.APPLICATION_JSON)
+                             .build();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private void sendHeartbeats() {
+        subscribers.forEach(subscriber -> subscriber.heartbeat(heartbeat));
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void close() {
+        heartbeats.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        senders.shutdown();
+    }
+
+    private record Frame(long id, Set<DataWithMediaType> event) {
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+
+        private final Deque<Set<DataWithMediaType>> pending = new ArrayDeque<>();
+
+        private boolean scheduled;
+
+        private boolean closed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private synchronized void enqueue(Set<DataWithMediaType> event, boolean replaying) {
+            if (closed) {
+                return;
+            }
+
+            if (!replaying && pending.size() >= properties.bufferSize()) {
+                overflows.increment();
+                if (properties.overflowPolicy() == StreamProperties.OverflowPolicy.DISCONNECT) {
+                    close();
+                    senders.execute(emitter::complete);
+                    return;
+                }
+                pending.removeFirst();
+            }
+
+            pending.addLast(event);
+            schedule();
+        }
+
+        private synchronized void heartbeat(Set<DataWithMediaType> event) {
+            if (!closed && pending.isEmpty()) {
+                pending.addLast(event);
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            if (!scheduled) {
+                scheduled = true;
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Set<DataWithMediaType> event;
+                synchronized (this) {
+                    event = pending.pollFirst();
+                    if (event == null || closed) {
+                        scheduled = false;
+                        return;
+                    }
+                }
+
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException ex) {
+                    close();
+                    return;
+                }
+            }
+        }
+
+        private synchronized void close() {
+            closed = true;
+            pending.clear();
+            subscribers.remove(this);
+        }
+    }
+}
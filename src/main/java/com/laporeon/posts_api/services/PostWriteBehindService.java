@@ -0,0 +1,331 @@
+package com.laporeon.posts_api.services;
+
+import com.laporeon.posts_api.config.BackgroundThreads;
+import com.laporeon.posts_api.config.WriteBehindProperties;
+import com.laporeon.posts_api.dto.request.PostRequestDTO;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.exceptions.WriteQueueFullException;
+import com.laporeon.posts_api.mappers.PostMapper;
+import com.laporeon.posts_api.repositories.PostRepository;
+import com.laporeon.posts_api.repositories.PostWrite;
+import com.laporeon.posts_api.repositories.PostWriteResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PostWriteBehindService implements SmartLifecycle {
+
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final PostRepository postRepository;
+
+    private final PostMapper postMapper;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final WriteBehindProperties properties;
+
+    private final BackgroundThreads backgroundThreads;
+
+    private final BlockingQueue<Post> queue;
+
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+
+    private final DistributionSummary batchSize;
+
+    private final Timer flushTimer;
+
+    private final Counter rejected;
+
+    private final Counter failed;
+
+    private final Counter retried;
+
+    private volatile boolean running;
+
+    private Thread writer;
+
+    public PostWriteBehindService(PostRepository postRepository,
+                                  PostMapper postMapper,
+                                  ApplicationEventPublisher eventPublisher,
+                                  WriteBehindProperties properties,
+                                  BackgroundThreads backgroundThreads,
+                                  MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.postMapper = postMapper;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.backgroundThreads = backgroundThreads;
+        this.queue = new ArrayBlockingQueue<>(properties.capacity());
+
+        Gauge.builder("posts.write.queue.depth", queue, Collection::size)
+             .description("Posts accepted but not yet written")
+             .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("posts.write.batch.size")
+                                            .description("Posts written per group commit")
+                                            .register(meterRegistry);
+        this.flushTimer = Timer.builder("posts.write.flush")
+                               .description("Latency of a group commit")
+                               .publishPercentileHistogram()
+                               .register(meterRegistry);
+        this.rejected = Counter.builder("posts.write.rejected")
+                               .description("Posts rejected because the queue was full or draining")
+                               .register(meterRegistry);
+        this.failed = Counter.builder("posts.write.failed")
+                             .description("Accepted posts dropped without being written")
+                             .register(meterRegistry);
+        this.retried = Counter.builder("posts.write.retried")
+                              .description("Group commits retried after a transient failure")
+                              .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    public PostResponseDTO enqueue(PostRequestDTO dto) {
+        Post post = toEntity(dto);
+
+        acceptLock.readLock().lock();
+        try {
+            if (!running || !queue.offer(post)) {
+                rejected.increment();
+                throw new WriteQueueFullException();
+            }
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+
+        return postMapper.toDTO(post);
+    }
+
+    @Override
+    public void start() {
+        if (!properties.enabled() || running) {
+            return;
+        }
+
+        running = true;
+        writer = backgroundThreads.start("post-write-behind", this::drain);
+    }
+
+    @Override
+    public void stop() {
+        acceptLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+
+        if (writer == null) {
+            return;
+        }
+
+        try {
+            writer.join(properties.drainTimeout());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (writer.isAlive()) {
+            List<Post> dropped = new ArrayList<>();
+            queue.drainTo(dropped);
+            failed.increment(dropped.size());
+            log.warn("Write-behind queue did not drain in {}, {} posts were not written",
+                     properties.drainTimeout(), dropped.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    void drain() {
+        List<Post> batch = new ArrayList<>(properties.maxBatchSize());
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Post first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                queue.drainTo(batch);
+                flushSafely(batch);
+                return;
+            }
+
+            flushSafely(batch);
+            batch.clear();
+        }
+    }
+
+    private void fill(List<Post> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + properties.linger().toNanos();
+
+        while (batch.size() < properties.maxBatchSize()) {
+            queue.drainTo(batch, properties.maxBatchSize() - batch.size());
+
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= properties.maxBatchSize() || remaining <= 0) {
+                return;
+            }
+
+            Post next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flushSafely(List<Post> batch) {
+        try {
+            flush(batch);
+        } catch (RuntimeException ex) {
+            failed.increment(batch.size());
+            log.error("Unexpected failure while flushing {} queued posts", batch.size(), ex);
+        }
+    }
+
+    private void flush(List<Post> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        batchSize.record(batch.size());
+        long start = System.nanoTime();
+        Map<Integer, String> errors;
+        try {
+            errors = write(batch);
+        } catch (RuntimeException ex) {
+            failed.increment(batch.size());
+            log.error("Could not write {} queued posts: {}", batch.size(), ex.getMessage());
+            return;
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        for (int position = 0; position < batch.size(); position++) {
+            Post post = batch.get(position);
+            String error = errors.get(position);
+            if (error != null) {
+                failed.increment();
+                log.warn("Could not write queued post {}: {}", post.getId(), error);
+                continue;
+            }
+            publishCreated(post);
+        }
+    }
+
+    private Map<Integer, String> write(List<Post> batch) {
+        List<PostWrite> writes = batch.stream().map(PostWrite::insert).toList();
+        Duration backoff = properties.retryBackoff();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                stamp(batch);
+                PostWriteResult result = postRepository.bulkWrite(writes);
+                return attempt == 1 ? result.errors() : withoutDuplicates(result);
+            } catch (RuntimeException ex) {
+                if (!isRetryable(ex) || attempt >= properties.maxAttempts()) {
+                    throw ex;
+                }
+                retried.increment();
+                log.warn("Attempt {} to write {} queued posts failed, retrying in {}: {}",
+                         attempt, batch.size(), backoff, ex.getMessage());
+                if (!pause(backoff)) {
+                    throw ex;
+                }
+                backoff = backoff.multipliedBy(2).compareTo(properties.maxRetryBackoff()) > 0
+                        ? properties.maxRetryBackoff()
+                        : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    private void stamp(List<Post> batch) {
+        Instant now = Instant.now();
+        batch.forEach(post -> post.setUpdatedAt(now));
+    }
+
+    private Map<Integer, String> withoutDuplicates(PostWriteResult result) {
+        Map<Integer, String> remaining = new HashMap<>(result.errors());
+        remaining.keySet().removeAll(result.duplicates());
+        return remaining;
+    }
+
+    private boolean isRetryable(RuntimeException ex) {
+        return ex instanceof TransientDataAccessException
+                || ex instanceof RecoverableDataAccessException
+                || ex instanceof DataAccessResourceFailureException;
+    }
+
+    private boolean pause(Duration backoff) {
+        try {
+            Thread.sleep(backoff);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void publishCreated(Post post) {
+        try {
+            eventPublisher.publishEvent(PostChangedEvent.created(post));
+        } catch (RuntimeException ex) {
+            log.warn("Could not publish creation of queued post {}: {}", post.getId(), ex.getMessage());
+        }
+    }
+
+    private Post toEntity(PostRequestDTO dto) {
+        Instant now = Instant.now();
+        Post post = postMapper.toEntity(dto);
+        post.setId(new ObjectId().toHexString());
+        post.setCreatedAt(now);
+        post.setUpdatedAt(now);
+        return post;
+    }
+}
@@ -0,0 +1,110 @@
+package com.laporeon.posts_api.services;
+
+import com.laporeon.posts_api.dto.request.PostRequestDTO;
+import com.laporeon.posts_api.dto.response.CursorPageResponseDTO;
+import com.laporeon.posts_api.dto.response.PageResponseDTO;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.exceptions.AuthorChangeNotAllowedException;
+import com.laporeon.posts_api.exceptions.PostNotFoundException;
+import com.laporeon.posts_api.mappers.PageMapper;
+import com.laporeon.posts_api.mappers.PostMapper;
+import com.laporeon.posts_api.repositories.ReactivePostRepository;
+import com.laporeon.posts_api.utils.CountMode;
+import com.laporeon.posts_api.utils.PostCursor;
+import com.laporeon.posts_api.utils.Slices;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactivePostService {
+
+    private final ReactivePostRepository reactivePostRepository;
+
+    private final PostMapper postMapper;
+
+    private final PageMapper paginationMapper;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Mono<PostResponseDTO> create(PostRequestDTO dto) {
+        return reactivePostRepository.save(postMapper.toEntity(dto))
+                                     .doOnNext(post -> eventPublisher.publishEvent(PostChangedEvent.created(post)))
+                                     .map(postMapper::toDTO);
+    }
+
+    public Mono<PageResponseDTO<PostResponseDTO>> listPosts(Pageable pageable, CountMode countMode) {
+        Mono<Slice<Post>> posts = reactivePostRepository.findSlice(pageable)
+                                                        .collectList()
+                                                        .map(content -> Slices.of(content, pageable));
+
+        if (countMode == CountMode.NONE) {
+            return posts.map(paginationMapper::toDTO);
+        }
+
+        Mono<Long> counted = countMode == CountMode.EXACT
+                ? reactivePostRepository.count()
+                : reactivePostRepository.estimatedCount();
+
+        return Mono.zip(posts, counted)
+                   .map(tuple -> paginationMapper.toDTO(new PageImpl<>(
+                           tuple.getT1().getContent(),
+                           pageable,
+                           resolveTotal(tuple.getT1(), tuple.getT2()))));
+    }
+
+    private long resolveTotal(Slice<Post> slice, long counted) {
+        long known = slice.getPageable().getOffset() + slice.getNumberOfElements();
+        if (!slice.hasNext()) {
+            return known;
+        }
+        return Math.max(counted, known + 1);
+    }
+
+    public Mono<CursorPageResponseDTO<PostResponseDTO>> listPosts(PostCursor cursor, int size) {
+        return reactivePostRepository.findAfter(cursor, size + 1)
+                                     .collectList()
+                                     .map(posts -> paginationMapper.toCursorDTO(posts, cursor, size));
+    }
+
+    public Mono<PostResponseDTO> findById(String id) {
+        return reactivePostRepository.findById(id)
+                                     .switchIfEmpty(Mono.error(() -> new PostNotFoundException(id)))
+                                     .map(postMapper::toDTO);
+    }
+
+    public Mono<PostResponseDTO> update(String id, PostRequestDTO dto) {
+        Post changes = postMapper.updateEntityFromDTO(dto, Post.builder()
+                                                              .id(id)
+                                                              .author(dto.author())
+                                                              .updatedAt(Instant.now())
+                                                              .build());
+
+        return reactivePostRepository.updateContent(changes)
+                                     .switchIfEmpty(Mono.defer(() -> reactivePostRepository.existsById(id)
+                                             .flatMap(exists -> Mono.error(exists
+                                                     ? new AuthorChangeNotAllowedException(id)
+                                                     : new PostNotFoundException(id)))))
+                                     .doOnNext(post -> eventPublisher.publishEvent(PostChangedEvent.updated(post)))
+                                     .map(postMapper::toDTO);
+    }
+
+    public Mono<Void> delete(String id) {
+        return reactivePostRepository.removeById(id)
+                                     .switchIfEmpty(Mono.error(() -> new PostNotFoundException(id)))
+                                     .doOnNext(post -> eventPublisher.publishEvent(PostChangedEvent.deleted(post)))
+                                     .then();
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.laporeon.posts_api.utils;
+
+import com.laporeon.posts_api.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+public record ChangeToken(Instant timestamp, String lastId) {
+
+    private static final String SEPARATOR = "\n";
+
+    public static ChangeToken first() {
+        return new ChangeToken(null, null);
+    }
+
+    public static ChangeToken after(Instant timestamp, String lastId) {
+        return new ChangeToken(timestamp, lastId);
+    }
+
+    public boolean isFirst() {
+        return timestamp == null;
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, timestamp.toString(), lastId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChangeToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 2);
+            return new ChangeToken(Instant.parse(parts[0]), parts[1]);
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException(token);
+        }
+    }
+}
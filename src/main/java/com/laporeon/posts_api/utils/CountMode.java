@@ -0,0 +1,18 @@
+package com.laporeon.posts_api.utils;
+
+import com.laporeon.posts_api.exceptions.InvalidCountModeException;
+
+public enum CountMode {
+    NONE,
+    ESTIMATED,
+    EXACT;
+
+    public static CountMode fromParameter(String count) {
+        for (CountMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(count)) {
+                return mode;
+            }
+        }
+        throw new InvalidCountModeException(count);
+    }
+}
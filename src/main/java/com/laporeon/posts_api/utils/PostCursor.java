@@ -0,0 +1,44 @@
+package com.laporeon.posts_api.utils;
+
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.exceptions.InvalidCursorException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record PostCursor(PostSortField field,
+                         Sort.Direction direction,
+                         Object lastValue,
+                         String lastId) {
+
+    private static final String SEPARATOR = "\n";
+
+    public static PostCursor first(PostSortField field, Sort.Direction direction) {
+        return new PostCursor(field, direction, null, null);
+    }
+
+    public PostCursor after(Post post) {
+        return new PostCursor(field, direction, field.valueOf(post), post.getId());
+    }
+
+    public boolean isFirst() {
+        return lastId == null;
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, field.name(), direction.name(), lastId, String.valueOf(lastValue));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 4);
+            PostSortField field = PostSortField.valueOf(parts[0]);
+            return new PostCursor(field, Sort.Direction.valueOf(parts[1]), field.parse(parts[3]), parts[2]);
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException(token);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.laporeon.posts_api.utils;
+
+import com.laporeon.posts_api.dto.response.PageResponseDTO;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+public final class PostETags {
+
+    private PostETags() {
+    }
+
+    public static String of(String id, Instant updatedAt) {
+        return "\"" + version(id, updatedAt) + "\"";
+    }
+
+    public static String ofPage(List<String> versions, boolean lastPage, Long totalElements) {
+        StringBuilder builder = new StringBuilder();
+        versions.forEach(version -> builder.append(version).append('|'));
+        builder.append(lastPage).append('|').append(totalElements);
+        return "\"" + DigestUtils.md5DigestAsHex(builder.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    public static String ofPage(PageResponseDTO<PostResponseDTO> page) {
+        return ofPage(
+                page.content()
+                    .stream()
+                    .map(post -> version(post.id(), post.updatedAt()))
+                    .toList(),
+                page.isLastPage(),
+                page.totalElements());
+    }
+
+    public static String version(String id, Instant updatedAt) {
+        long millis = updatedAt == null ? 0L : updatedAt.toEpochMilli();
+        return id + "-" + Long.toHexString(millis);
+    }
+}
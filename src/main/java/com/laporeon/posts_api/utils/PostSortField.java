@@ -0,0 +1,58 @@
+package com.laporeon.posts_api.utils;
+
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.exceptions.InvalidSortDirectionException;
+import com.laporeon.posts_api.exceptions.InvalidSortFieldException;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+public enum PostSortField {
+
+    TITLE("title", Post::getTitle, value -> value),
+    CREATED_AT("createdAt", Post::getCreatedAt, Instant::parse),
+    UPDATED_AT("updatedAt", Post::getUpdatedAt, Instant::parse);
+
+    public static final String TIEBREAKER = "id";
+
+    private final String property;
+    private final Function<Post, Object> extractor;
+    private final Function<String, Object> parser;
+
+    PostSortField(String property, Function<Post, Object> extractor, Function<String, Object> parser) {
+        this.property = property;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Sort sort(Sort.Direction direction) {
+        return Sort.by(direction, property, TIEBREAKER);
+    }
+
+    public Object valueOf(Post post) {
+        return extractor.apply(post);
+    }
+
+    public Object parse(String value) {
+        return parser.apply(value);
+    }
+
+    public static PostSortField fromProperty(String property) {
+        for (PostSortField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new InvalidSortFieldException(property);
+    }
+
+    public static Sort.Direction directionOf(String direction) {
+        return Sort.Direction.fromOptionalString(direction)
+                             .orElseThrow(() -> new InvalidSortDirectionException(direction));
+    }
+}
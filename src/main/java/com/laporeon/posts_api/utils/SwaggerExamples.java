@@ -8,6 +8,7 @@ public class SwaggerExamples {
                 "title": "Getting Started with Spring Boot",
                 "description": "A comprehensive guide to building REST APIs with Spring Boot framework.",
                 "body": "Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.",
+                "author": "laporeon",
                 "createdAt": "2025-10-03T21:17:35.960908672Z",
                 "updatedAt": "2025-10-03T21:17:35.960908672Z"
             }
@@ -21,6 +22,7 @@ public class SwaggerExamples {
                     "title": "Getting Started with Spring Boot",
                     "description": "A comprehensive guide to building REST APIs with Spring Boot framework.",
                     "body": "Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications that you can just run. In this post, we'll explore the fundamentals of creating a REST API...",
+                    "author": "laporeon",
                     "createdAt": "2025-10-03T21:17:35.960908672Z",
                     "updatedAt": "2025-10-03T21:17:35.960908672Z"
                     },
@@ -29,6 +31,7 @@ public class SwaggerExamples {
                     "title": "MongoDB with Spring Data",
                     "description": "Learn how to integrate MongoDB with Spring Data for seamless database operations.",
                     "body": "MongoDB is a popular NoSQL database that works perfectly with Spring Boot applications. In this tutorial, we'll set up MongoDB integration using Spring Data MongoDB...",
+                    "author": "laporeon",
                     "createdAt": "2025-10-11T10:37:35.960908672Z",
                     "updatedAt": "2025-10-11T10:37:35.960908672Z"
                     },
@@ -37,6 +40,7 @@ public class SwaggerExamples {
                     "title": "API Documentation with Swagger",
                     "description": "Best practices for documenting REST APIs using OpenAPI and Swagger UI.",
                     "body": "Good API documentation is crucial for developer experience. Swagger UI provides an interactive interface for testing and understanding your APIs. Here's how to implement it properly...",
+                    "author": "laporeon",
                     "createdAt": "2025-10-28T18:37:35.960908672Z",
                     "updatedAt": "2025-10-28T18:37:35.960908672Z"
                     }
@@ -54,6 +58,154 @@ public class SwaggerExamples {
             }
             """;
 
+    public static final String POSTS_CURSOR_PAGE_RESPONSE = """
+            {
+                "content": [
+                    {
+                    "id": "507f1f77bcf86cd799439013",
+                    "title": "API Documentation with Swagger",
+                    "description": "Best practices for documenting REST APIs using OpenAPI and Swagger UI.",
+                    "body": "Good API documentation is crucial for developer experience. Swagger UI provides an interactive interface for testing and understanding your APIs. Here's how to implement it properly...",
+                    "author": "laporeon",
+                    "createdAt": "2025-10-28T18:37:35.960908672Z",
+                    "updatedAt": "2025-10-28T18:37:35.960908672Z"
+                    }
+                ],
+                "pageSize": 1,
+                "numberOfElements": 1,
+                "nextCursor": "VElUTEUKQVNDCjUwN2YxZjc3YmNmODZjZDc5OTQzOTAxMwpBUEkgRG9jdW1lbnRhdGlvbiB3aXRoIFN3YWdnZXI",
+                "hasNext": true
+            }
+            """;
+
+    public static final String AUTHOR_POSTS_PAGE_RESPONSE = """
+            {
+                "content": [
+                    {
+                    "id": "507f1f77bcf86cd799439013",
+                    "title": "API Documentation with Swagger",
+                    "description": "Best practices for documenting REST APIs using OpenAPI and Swagger UI.",
+                    "body": "Good API documentation is crucial for developer experience. Swagger UI provides an interactive interface for testing and understanding your APIs. Here's how to implement it properly...",
+                    "author": "laporeon",
+                    "createdAt": "2025-10-28T18:37:35.960908672Z",
+                    "updatedAt": "2025-10-28T18:37:35.960908672Z"
+                    }
+                ],
+                "pageSize": 1,
+                "numberOfElements": 1,
+                "nextCursor": "Q1JFQVRFRF9BVApERVNDCjUwN2YxZjc3YmNmODZjZDc5OTQzOTAxMwoyMDI1LTEwLTI4VDE4OjM3OjM1Ljk2MDkwODY3Mlo",
+                "hasNext": true
+            }
+            """;
+
+    public static final String AUTHOR_RESPONSE = """
+            {
+                "author": "laporeon",
+                "numberOfPosts": 42
+            }
+            """;
+
+    public static final String CHANGE_FEED_RESPONSE = """
+            {
+                "changes": [
+                    {
+                    "type": "UPSERTED",
+                    "id": "507f1f77bcf86cd799439013",
+                    "changedAt": "2025-10-28T18:37:35.960Z",
+                    "post": {
+                        "id": "507f1f77bcf86cd799439013",
+                        "title": "API Documentation with Swagger",
+                        "description": "Best practices for documenting REST APIs using OpenAPI and Swagger UI.",
+                        "body": "Good API documentation is crucial for developer experience. Swagger UI provides an interactive interface for testing and understanding your APIs. Here's how to implement it properly...",
+                        "author": "laporeon",
+                        "createdAt": "2025-10-28T18:37:35.960Z",
+                        "updatedAt": "2025-10-28T18:37:35.960Z"
+                        }
+                    },
+                    {
+                    "type": "DELETED",
+                    "id": "507f1f77bcf86cd799439011",
+                    "changedAt": "2025-10-28T18:40:12.118Z"
+                    }
+                ],
+                "numberOfChanges": 2,
+                "nextToken": "MjAyNS0xMC0yOFQxODo0MDoxMi4xMThaCjUwN2YxZjc3YmNmODZjZDc5OTQzOTAxMQ",
+                "hasMore": false
+            }
+            """;
+
+    public static final String BULK_RESPONSE = """
+            {
+                "errors": true,
+                "items": [
+                    {
+                    "index": 0,
+                    "action": "CREATE",
+                    "id": "507f1f77bcf86cd799439014",
+                    "status": 201
+                    },
+                    {
+                    "index": 1,
+                    "action": "UPDATE",
+                    "id": "507f1f77bcf86cd799439011",
+                    "status": 200
+                    },
+                    {
+                    "index": 2,
+                    "action": "DELETE",
+                    "id": "6942e984836f586fa47e52ff",
+                    "status": 404,
+                    "error": "Post with id 6942e984836f586fa47e52ff not found."
+                    }
+                ]
+            }
+            """;
+
+    public static final String MULTI_GET_REQUEST = """
+            {
+                "ids": ["507f1f77bcf86cd799439011", "6942e984836f586fa47e52ff"]
+            }
+            """;
+
+    public static final String MULTI_GET_RESPONSE = """
+            {
+                "found": 1,
+                "items": [
+                    {
+                    "id": "507f1f77bcf86cd799439011",
+                    "found": true,
+                    "post": {
+                        "id": "507f1f77bcf86cd799439011",
+                        "title": "Getting Started with Spring Boot",
+                        "description": "A comprehensive guide to building REST APIs with Spring Boot framework.",
+                        "body": "Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.",
+                        "author": "laporeon",
+                        "createdAt": "2025-10-03T21:17:35.960908672Z",
+                        "updatedAt": "2025-10-03T21:17:35.960908672Z"
+                        }
+                    },
+                    {
+                    "id": "6942e984836f586fa47e52ff",
+                    "found": false
+                    }
+                ]
+            }
+            """;
+
+    public static final String CACHE_STATS_RESPONSE = """
+            {
+                "heapHits": 15234,
+                "heapMisses": 812,
+                "heapEvictions": 97,
+                "heapEntries": 10000,
+                "offHeapHits": 41,
+                "offHeapMisses": 771,
+                "offHeapEvictions": 0,
+                "offHeapEntries": 97,
+                "offHeapUsedBytes": 48211
+            }
+            """;
+
     public static final String VALIDATION_ERROR_RESPONSE = """
             {
               "status": 400,
@@ -85,6 +237,92 @@ public class SwaggerExamples {
             }
             """;
 
+    public static final String INVALID_CURSOR_ERROR = """
+            {
+              "status": 400,
+              "message": "Cursor abc is invalid or has expired.",
+              "timestamp": "2025-12-17T17:34:36.964178379Z"
+            }
+            """;
+
+    public static final String CHANGE_TOKEN_EXPIRED_ERROR = """
+            {
+              "status": 410,
+              "message": "Change token MjAyNS0wOS0wMVQwMDowMDowMFoKNTA3ZjFmNzdiY2Y4NmNkNzk5NDM5MDEx is older than the retained deletion history. Resynchronize without a token.",
+              "timestamp": "2025-12-17T17:34:36.964178379Z"
+            }
+            """;
+
+    public static final String INVALID_SORT_FIELD_ERROR = """
+            {
+              "status": 400,
+              "message": "Sorting by body is not supported.",
+              "timestamp": "2025-12-17T17:34:36.964178379Z"
+            }
+            """;
+
+    public static final String INVALID_SEARCH_QUERY_ERROR = """
+            {
+              "status": 400,
+              "message": "Search query must not be blank.",
+              "timestamp": "2025-12-17T17:34:36.964178379Z"
+            }
+            """;
+
+    public static final String POSTS_EXPORT_RESPONSE = """
+            {"id":"68e0234a70424186e056e45f","title":"Getting Started with Spring Boot","description":"A comprehensive guide to building REST APIs with Spring Boot framework.","body":"Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.","author":"laporeon","createdAt":"2025-10-03T19:29:46.364Z","updatedAt":"2025-10-03T19:29:46.364Z"}
+            {"id":"68e0234a70424186e056e460","title":"Understanding MongoDB Indexes","description":"How compound indexes keep sorted reads fast on large collections.","body":"An index that matches both the filter and the sort lets MongoDB return documents in order without an in-memory sort.","author":"laporeon","createdAt":"2025-10-04T08:12:03.101Z","updatedAt":"2025-10-04T08:12:03.101Z"}
+            """;
+
+    public static final String POSTS_STREAM_RESPONSE = """
+            : connected
+            retry: 15000
+
+            id: mgd0k2xq-1
+            event: created
+            data: {"type":"UPSERTED","id":"68e0234a70424186e056e45f","changedAt":"2025-10-03T19:29:46.364Z","post":{"id":"68e0234a70424186e056e45f","title":"Getting Started with Spring Boot","description":"A comprehensive guide to building REST APIs with Spring Boot framework.","body":"Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.","author":"laporeon","createdAt":"2025-10-03T19:29:46.364Z","updatedAt":"2025-10-03T19:29:46.364Z"}}
+
+            id: mgd0k2xq-2
+            event: deleted
+            data: {"type":"DELETED","id":"68e0234a70424186e056e460","changedAt":"2025-10-03T19:31:02.118Z"}
+
+            """;
+
+    public static final String POSTS_IMPORT_REQUEST = """
+            {"title":"Getting Started with Spring Boot","description":"A comprehensive guide to building REST APIs with Spring Boot framework.","body":"Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications."}
+            {"title":"Short","description":"Too short","body":"Too short"}
+            """;
+
+    public static final String POSTS_IMPORT_RESPONSE = """
+            {
+              "received": 2,
+              "imported": 1,
+              "failed": 1,
+              "errors": [
+                {
+                  "line": 2,
+                  "error": "Body content must be between 60 and 500 characters long. Description must be between 20 and 150 characters long. Title must be between 10 and 100 characters long."
+                }
+              ]
+            }
+            """;
+
+    public static final String INVALID_PARAMETER_ERROR = """
+            {
+              "status": 400,
+              "message": "Parameter updatedSince has an invalid value.",
+              "timestamp": "2025-12-17T17:34:36.964178379Z"
+            }
+            """;
+
+    public static final String WRITE_QUEUE_FULL_ERROR = """
+            {
+              "status": 503,
+              "message": "Post write queue is not accepting new posts. Retry later.",
+              "timestamp": "2025-12-17T17:34:36.964178379Z"
+            }
+            """;
+
     public static final String SERVER_ERROR = """
             {
               "status": 500,
@@ -0,0 +1,66 @@
+package com.laporeon.posts_api;
+
+import com.jayway.jsonpath.JsonPath;
+import com.laporeon.posts_api.repositories.InMemoryPostRepository;
+import com.laporeon.posts_api.repositories.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("in-memory")
+class InMemoryPostsApiApplicationTests {
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void servesCrudRoutesWithoutMongo() throws Exception {
+		assertThat(postRepository).isInstanceOf(InMemoryPostRepository.class);
+
+		String created = mockMvc.perform(post("/api/v1/posts")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								{
+								  "title": "Getting Started with Spring Boot",
+								  "description": "A comprehensive guide to building REST APIs with Spring Boot framework.",
+								  "body": "Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications."
+								}
+								"""))
+				.andExpect(status().isCreated())
+				.andReturn()
+				.getResponse()
+				.getContentAsString();
+		String id = JsonPath.read(created, "$.id");
+
+		mockMvc.perform(get("/api/v1/posts/{id}", id))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.title").value("Getting Started with Spring Boot"));
+
+		mockMvc.perform(get("/api/v1/posts").param("orderBy", "createdAt").param("direction", "DESC"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].id").value(id));
+
+		mockMvc.perform(delete("/api/v1/posts/{id}", id))
+				.andExpect(status().isNoContent());
+
+		mockMvc.perform(get("/api/v1/posts/{id}", id))
+				.andExpect(status().isNotFound());
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.laporeon.posts_api;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("in-memory")
+class PostsApiMetricsTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void exposesServiceAndEndpointTimersForPrometheus() throws Exception {
+		mockMvc.perform(post("/api/v1/posts")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								{
+								  "title": "Getting Started with Spring Boot",
+								  "description": "A comprehensive guide to building REST APIs with Spring Boot framework.",
+								  "body": "Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications."
+								}
+								"""))
+				.andExpect(status().isCreated());
+
+		assertThat(meterRegistry.get("posts.service").tag("method", "create").timer().count()).isEqualTo(1);
+
+		String scrape = mockMvc.perform(get("/actuator/prometheus"))
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse()
+				.getContentAsString();
+
+		assertThat(scrape).contains("posts_service_seconds_bucket{");
+		assertThat(scrape).containsPattern("http_server_requests_seconds_bucket\\{.*uri=\"/api/v1/posts\"");
+	}
+
+}
@@ -0,0 +1,36 @@
+package com.laporeon.posts_api;
+
+import com.laporeon.posts_api.repositories.PostReadRouter;
+import com.mongodb.ReadPreference;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+		"posts.read-routing.enabled=true",
+		"posts.read-routing.max-staleness=120s"
+})
+class PostsApiReadRoutingTests {
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Autowired
+	private PostReadRouter postReadRouter;
+
+	@Test
+	void routesReadsToSecondariesWithMaxStaleness() {
+		MongoTemplate secondary = (MongoTemplate) postReadRouter.secondary();
+
+		assertThat(secondary).isNotSameAs(mongoTemplate);
+		assertThat(secondary.getDb().getReadPreference())
+				.isEqualTo(ReadPreference.secondaryPreferred(120, TimeUnit.SECONDS));
+		assertThat(mongoTemplate.getDb().getReadPreference()).isEqualTo(ReadPreference.primary());
+	}
+
+}
@@ -0,0 +1,32 @@
+package com.laporeon.posts_api;
+
+import com.laporeon.posts_api.controllers.PostController;
+import com.laporeon.posts_api.cache.PostCache;
+import com.laporeon.posts_api.controllers.ReactivePostController;
+import com.laporeon.posts_api.services.PostService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("reactive")
+class ReactivePostsApiApplicationTests {
+
+	@Autowired
+	private ApplicationContext applicationContext;
+
+	@Test
+	void contextLoads() {
+		assertThat(applicationContext.getBeanNamesForType(ReactivePostController.class)).hasSize(1);
+		assertThat(applicationContext.getBeanNamesForType(PostController.class)).isEmpty();
+		assertThat(applicationContext.getBeanNamesForType(PostService.class)).isEmpty();
+		assertThat(applicationContext.getBeanNamesForType(PostCache.class)).isEmpty();
+		assertThat(applicationContext.getBeanNamesForType(MongoTemplate.class)).isEmpty();
+	}
+
+}
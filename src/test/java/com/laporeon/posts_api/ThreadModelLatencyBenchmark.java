@@ -0,0 +1,149 @@
+package com.laporeon.posts_api;
+
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.repositories.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "posts.cache.enabled=false")
+@DisplayName("Request thread model latency benchmark")
+class ThreadModelLatencyBenchmark {
+
+    private static final Duration REPOSITORY_LATENCY = Duration.ofMillis(Long.getLong("benchmark.latency-ms", 50));
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 5000);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 1000);
+    private static final int WARM_UP_REQUESTS = Integer.getInteger("benchmark.warm-up-requests", 2000);
+
+    private static final Map<String, Duration> P99 = new ConcurrentHashMap<>();
+
+    @AfterAll
+    static void report() {
+        log.info("p99 latency over {} requests at concurrency {} with {} ms repository latency: {}",
+                REQUESTS, CONCURRENCY, REPOSITORY_LATENCY.toMillis(), P99);
+    }
+
+    abstract static class Scenario {
+
+        @MockitoBean
+        private PostRepository postRepository;
+
+        @LocalServerPort
+        private int port;
+
+        private final String id = new ObjectId().toHexString();
+
+        @BeforeEach
+        void stubSlowRepository() {
+            Post post = Post.builder()
+                            .id(id)
+                            .title("Getting Started with Spring Boot")
+                            .description("A comprehensive guide to building REST APIs with Spring Boot framework.")
+                            .body("Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.")
+                            .createdAt(Instant.now())
+                            .updatedAt(Instant.now())
+                            .build();
+
+            when(postRepository.findById(anyString())).thenAnswer(invocation -> {
+                Thread.sleep(REPOSITORY_LATENCY);
+                return Optional.of(post);
+            });
+        }
+
+        @Test
+        @DisplayName("Should serve concurrent reads and record p99 latency")
+        void shouldServeConcurrentReadsAndRecordP99Latency() throws Exception {
+            URI uri = URI.create("http://localhost:" + port + "/api/v1/posts/" + id);
+
+            try (HttpClient client = HttpClient.newHttpClient()) {
+                run(client, uri, WARM_UP_REQUESTS);
+                List<Duration> latencies = run(client, uri, REQUESTS);
+
+                Collections.sort(latencies);
+                Duration p99 = latencies.get((int) Math.ceil(latencies.size() * 0.99) - 1);
+                P99.put(name(), p99);
+
+                assertThat(p99).isGreaterThanOrEqualTo(REPOSITORY_LATENCY);
+            }
+        }
+
+        private List<Duration> run(HttpClient client, URI uri, int requests) throws Exception {
+            HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+            List<Future<Duration>> results = new ArrayList<>(requests);
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY)) {
+                for (int i = 0; i < requests; i++) {
+                    results.add(executor.submit(() -> {
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        assertThat(response.statusCode()).isEqualTo(200);
+                        return Duration.ofNanos(System.nanoTime() - start);
+                    }));
+                }
+            }
+
+            List<Duration> latencies = new ArrayList<>(requests);
+            for (Future<Duration> result : results) {
+                latencies.add(result.get());
+            }
+            return latencies;
+        }
+
+        abstract String name();
+    }
+
+    @Nested
+    @DisplayName("Platform threads")
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+    class PlatformThreads extends Scenario {
+
+        @Override
+        String name() {
+            return "platform";
+        }
+    }
+
+    @Nested
+    @DisplayName("Virtual threads")
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+    class VirtualThreads extends Scenario {
+
+        @Override
+        String name() {
+            return "virtual";
+        }
+    }
+}
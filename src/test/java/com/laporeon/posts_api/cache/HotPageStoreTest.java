@@ -0,0 +1,180 @@
+package com.laporeon.posts_api.cache;
+
+import com.laporeon.posts_api.config.ChangeFeedProperties;
+import com.laporeon.posts_api.config.HotPagesProperties;
+import com.laporeon.posts_api.dto.response.PageResponseDTO;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.mappers.PageMapper;
+import com.laporeon.posts_api.mappers.PostMapper;
+import com.laporeon.posts_api.repositories.InMemoryPostRepository;
+import com.laporeon.posts_api.utils.PostCursor;
+import com.laporeon.posts_api.utils.PostSortField;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("HotPageStore Tests")
+class HotPageStoreTest {
+
+    private static final ChangeFeedProperties CHANGE_FEED_PROPERTIES =
+            new ChangeFeedProperties(Duration.ofDays(30), Duration.ofSeconds(1), 100, 1000);
+
+    private static final int PAGES = 2;
+    private static final int PAGE_SIZE = 2;
+
+    private static final Sort BY_TITLE = PostSortField.TITLE.sort(Sort.Direction.ASC);
+    private static final Sort BY_CREATED_AT_DESC = PostSortField.CREATED_AT.sort(Sort.Direction.DESC);
+
+    private static final Instant BASE = Instant.parse("2025-10-01T00:00:00Z");
+
+    private InMemoryPostRepository postRepository;
+
+    private HotPageStore hotPageStore;
+
+    private List<Post> posts;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = spy(new InMemoryPostRepository(CHANGE_FEED_PROPERTIES));
+        PostMapper postMapper = new PostMapper();
+        hotPageStore = new HotPageStore(
+                new HotPagesProperties(true, PAGES, PAGE_SIZE, List.of("title:ASC", "createdAt:DESC"), Duration.ofMinutes(5)),
+                postRepository,
+                new PageMapper(postMapper),
+                new SimpleMeterRegistry());
+
+        posts = new ArrayList<>();
+        for (String title : List.of("Delta", "Bravo", "Hotel", "Alpha", "Foxtrot", "Charlie", "Golf", "Echo")) {
+            create(title + " post about hot pages");
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from memory and top up one post after a delete")
+    void shouldServeRepeatedReadsFromMemoryAndTopUpAfterDelete() {
+        PageResponseDTO<PostResponseDTO> first = hotPageStore.find(PageRequest.of(0, PAGE_SIZE, BY_TITLE));
+
+        assertThat(first).isSameAs(hotPageStore.find(PageRequest.of(0, PAGE_SIZE, BY_TITLE)));
+        assertThat(hotPageStore.find(PageRequest.of(1, PAGE_SIZE, BY_TITLE)).isLastPage()).isFalse();
+        verify(postRepository, times(1)).findAfter(any(PostCursor.class), eq(PAGES * PAGE_SIZE + 1));
+
+        Post alpha = posts.get(3);
+        postRepository.removeById(alpha.getId());
+        hotPageStore.onPostChanged(PostChangedEvent.deleted(alpha.getId()));
+
+        assertThat(titles(hotPageStore.find(PageRequest.of(0, PAGE_SIZE, BY_TITLE))))
+                .containsExactly("Bravo post about hot pages", "Charlie post about hot pages");
+        verify(postRepository, times(1)).findAfter(any(PostCursor.class), eq(1));
+        verify(postRepository, times(2)).findAfter(any(PostCursor.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should keep hot pages identical to the repository across creates, updates and deletes")
+    void shouldKeepHotPagesIdenticalToRepository() {
+        assertMatchesRepository();
+
+        create("Aardvark post about hot pages");
+        assertMatchesRepository();
+
+        create("Zulu post about hot pages");
+        assertMatchesRepository();
+
+        update(posts.get(7), "Able post about hot pages");
+        assertMatchesRepository();
+
+        update(posts.get(3), "Yankee post about hot pages");
+        assertMatchesRepository();
+
+        for (Post post : List.copyOf(posts)) {
+            delete(post);
+            assertMatchesRepository();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not serve sorts, page sizes or pages that are not hot")
+    void shouldNotServeSortsPageSizesOrPagesThatAreNotHot() {
+        assertThat(hotPageStore.find(PageRequest.of(0, PAGE_SIZE, PostSortField.UPDATED_AT.sort(Sort.Direction.ASC)))).isNull();
+        assertThat(hotPageStore.find(PageRequest.of(0, PAGE_SIZE + 1, BY_TITLE))).isNull();
+        assertThat(hotPageStore.find(PageRequest.of(PAGES, PAGE_SIZE, BY_TITLE))).isNull();
+
+        verify(postRepository, never()).findAfter(any(PostCursor.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reload a window once it is older than the ttl")
+    void shouldReloadWindowOnceItIsOlderThanTtl() {
+        HotPageStore expiring = new HotPageStore(
+                new HotPagesProperties(true, PAGES, PAGE_SIZE, List.of("title:ASC"), Duration.ZERO),
+                postRepository,
+                new PageMapper(new PostMapper()),
+                new SimpleMeterRegistry());
+        expiring.find(PageRequest.of(0, PAGE_SIZE, BY_TITLE));
+
+        postRepository.save(Post.builder().title("Aardvark post written elsewhere").build());
+
+        assertThat(titles(expiring.find(PageRequest.of(0, PAGE_SIZE, BY_TITLE))))
+                .containsExactly("Aardvark post written elsewhere", "Alpha post about hot pages");
+    }
+
+    private void assertMatchesRepository() {
+        for (Sort sort : List.of(BY_TITLE, BY_CREATED_AT_DESC)) {
+            for (int page = 0; page < PAGES; page++) {
+                Pageable pageable = PageRequest.of(page, PAGE_SIZE, sort);
+                Slice<Post> expected = postRepository.findAllBy(pageable);
+                PageResponseDTO<PostResponseDTO> actual = hotPageStore.find(pageable);
+
+                assertThat(actual.content()).extracting(PostResponseDTO::id)
+                                            .containsExactlyElementsOf(expected.map(Post::getId).getContent());
+                assertThat(actual.content()).extracting(PostResponseDTO::title)
+                                            .containsExactlyElementsOf(expected.map(Post::getTitle).getContent());
+                assertThat(actual.isLastPage()).isEqualTo(expected.isLast());
+            }
+        }
+    }
+
+    private void create(String title) {
+        Instant createdAt = BASE.plusSeconds(posts.size());
+        Post post = postRepository.save(Post.builder().title(title).createdAt(createdAt).updatedAt(createdAt).build());
+        posts.add(post);
+        hotPageStore.onPostChanged(PostChangedEvent.created(post));
+    }
+
+    private void update(Post post, String title) {
+        Post updated = postRepository.updateContent(Post.builder()
+                                                        .id(post.getId())
+                                                        .title(title)
+                                                        .updatedAt(Instant.now())
+                                                        .build())
+                                     .orElseThrow();
+        hotPageStore.onPostChanged(PostChangedEvent.updated(updated));
+    }
+
+    private void delete(Post post) {
+        postRepository.removeById(post.getId());
+        posts.remove(post);
+        hotPageStore.onPostChanged(PostChangedEvent.deleted(post.getId()));
+    }
+
+    private List<String> titles(PageResponseDTO<PostResponseDTO> page) {
+        return page.content().stream().map(PostResponseDTO::title).toList();
+    }
+}
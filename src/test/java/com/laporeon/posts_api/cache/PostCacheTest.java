@@ -0,0 +1,173 @@
+package com.laporeon.posts_api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.laporeon.posts_api.config.CacheProperties;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostCache Tests")
+class PostCacheTest {
+
+    private static final String VALID_TITLE = "Getting Started with Spring Boot";
+    private static final String VALID_DESCRIPTION = "A comprehensive guide to building REST APIs with Spring Boot framework.";
+    private static final String VALID_BODY = "Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.";
+    private static final String VALID_AUTHOR = "laporeon";
+
+    private PostCache postCache;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties properties = new CacheProperties(
+                true,
+                1,
+                Duration.ofMinutes(5),
+                DataSize.ofKilobytes(64),
+                Duration.ofMinutes(30)
+        );
+        postCache = new PostCache(properties, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    @DisplayName("Should return post from heap after it is cached")
+    void shouldReturnPostFromHeapAfterItIsCached() {
+        PostResponseDTO post = newPost();
+
+        postCache.put(post.id(), post, postCache.ticket());
+
+        assertThat(postCache.get(post.id())).isEqualTo(post);
+        assertThat(postCache.stats().heapHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve posts evicted from heap out of the off-heap arena")
+    void shouldServePostsEvictedFromHeapOutOfOffHeapArena() {
+        PostResponseDTO first = newPost();
+        PostResponseDTO second = newPost();
+
+        postCache.put(first.id(), first, postCache.ticket());
+        postCache.put(second.id(), second, postCache.ticket());
+        postCache.heapCleanUp();
+
+        assertThat(postCache.stats().offHeapEntries()).isEqualTo(1);
+        assertThat(postCache.get(first.id())).isEqualTo(first);
+        assertThat(postCache.get(second.id())).isEqualTo(second);
+        assertThat(postCache.stats().offHeapHits()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should drop post from both tiers when it changes")
+    void shouldDropPostFromBothTiersWhenItChanges() {
+        PostResponseDTO first = newPost();
+        PostResponseDTO second = newPost();
+
+        postCache.put(first.id(), first, postCache.ticket());
+        postCache.put(second.id(), second, postCache.ticket());
+        postCache.heapCleanUp();
+
+        postCache.onPostChanged(PostChangedEvent.deleted(first.id()));
+        postCache.onPostChanged(PostChangedEvent.deleted(second.id()));
+
+        assertThat(postCache.get(first.id())).isNull();
+        assertThat(postCache.get(second.id())).isNull();
+    }
+
+    @Test
+    @DisplayName("Should ignore stale load that raced with an invalidation")
+    void shouldIgnoreStaleLoadThatRacedWithInvalidation() {
+        PostResponseDTO post = newPost();
+        long ticket = postCache.ticket();
+
+        postCache.invalidate(post.id());
+        postCache.put(post.id(), post, ticket);
+
+        assertThat(postCache.get(post.id())).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not demote an evicted post when an invalidation races with the demotion")
+    void shouldNotDemoteEvictedPostWhenInvalidationRacesWithDemotion() {
+        PostResponseDTO first = newPost();
+        PostResponseDTO second = newPost();
+        PostCache[] racing = new PostCache[1];
+        ObjectMapper invalidatingMapper = new ObjectMapper() {
+            @Override
+            public byte[] writeValueAsBytes(Object value) throws JsonProcessingException {
+                byte[] serialized = super.writeValueAsBytes(value);
+                racing[0].invalidate(new ObjectId().toString());
+                return serialized;
+            }
+        }.registerModule(new JavaTimeModule());
+        racing[0] = new PostCache(
+                new CacheProperties(true, 1, Duration.ofMinutes(5), DataSize.ofKilobytes(64), Duration.ofMinutes(30)),
+                invalidatingMapper);
+
+        racing[0].put(first.id(), first, racing[0].ticket());
+        racing[0].put(second.id(), second, racing[0].ticket());
+        racing[0].heapCleanUp();
+
+        assertThat(racing[0].stats().heapEvictions()).isEqualTo(1);
+        assertThat(racing[0].stats().offHeapEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should only reserve off-heap memory once a post is demoted")
+    void shouldOnlyReserveOffHeapMemoryOnceAPostIsDemoted() {
+        PostCache disabled = new PostCache(
+                new CacheProperties(false, 1, Duration.ofMinutes(5), DataSize.ofMegabytes(64), Duration.ofMinutes(30)),
+                new ObjectMapper());
+        PostResponseDTO first = newPost();
+        PostResponseDTO second = newPost();
+
+        disabled.put(first.id(), first, disabled.ticket());
+        disabled.put(second.id(), second, disabled.ticket());
+        assertThat(disabled.isOffHeapAllocated()).isFalse();
+
+        postCache.put(first.id(), first, postCache.ticket());
+        assertThat(postCache.isOffHeapAllocated()).isFalse();
+        postCache.put(second.id(), second, postCache.ticket());
+        postCache.heapCleanUp();
+        assertThat(postCache.isOffHeapAllocated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reclaim oldest off-heap entries when the arena wraps around")
+    void shouldReclaimOldestOffHeapEntriesWhenArenaWrapsAround() {
+        OffHeapArena arena = new OffHeapArena(10, Duration.ofMinutes(1).toNanos());
+
+        arena.put("a", new byte[4]);
+        arena.put("b", new byte[4]);
+        arena.put("c", new byte[4]);
+
+        assertThat(arena.get("a")).isNull();
+        assertThat(arena.get("b")).hasSize(4);
+        assertThat(arena.get("c")).hasSize(4);
+        assertThat(arena.stats().evictions()).isEqualTo(1);
+        assertThat(arena.stats().usedBytes()).isEqualTo(8);
+    }
+
+    private PostResponseDTO newPost() {
+        Instant createdAt = Instant.now().minus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MILLIS);
+        return new PostResponseDTO(
+                new ObjectId().toString(),
+                VALID_TITLE,
+                VALID_DESCRIPTION,
+                VALID_BODY,
+                VALID_AUTHOR,
+                createdAt,
+                createdAt
+        );
+    }
+}
@@ -0,0 +1,139 @@
+package com.laporeon.posts_api.cache;
+
+import com.laporeon.posts_api.config.BackgroundThreads;
+import com.laporeon.posts_api.config.ChangeFeedProperties;
+import com.laporeon.posts_api.config.LookupFilterProperties;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.repositories.InMemoryPostRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostLookupFilter Tests")
+class PostLookupFilterTest {
+
+    private static final ChangeFeedProperties CHANGE_FEED_PROPERTIES =
+            new ChangeFeedProperties(Duration.ofDays(30), Duration.ofSeconds(1), 100, 1000);
+
+    private InMemoryPostRepository postRepository;
+
+    private MeterRegistry meterRegistry;
+
+    private PostLookupFilter postLookupFilter;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = new InMemoryPostRepository(CHANGE_FEED_PROPERTIES);
+        meterRegistry = new SimpleMeterRegistry();
+        postLookupFilter = new PostLookupFilter(
+                new LookupFilterProperties(true, 1_000, 0.01, Duration.ofMinutes(10), false),
+                postRepository,
+                new BackgroundThreads(new MockEnvironment()),
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed ids even before the filter is built")
+    void shouldRejectMalformedIdsBeforeFilterIsBuilt() {
+        assertThat(postLookupFilter.isAbsent("wp-login.php")).isTrue();
+        assertThat(postLookupFilter.isAbsent(new ObjectId().toHexString())).isFalse();
+
+        assertThat(meterRegistry.get("posts.lookup.filter").tag("outcome", "malformed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should never reject stored or newly created posts and rule out most unknown ids")
+    void shouldNeverRejectExistingPostsAndRuleOutUnknownIds() {
+        List<Post> stored = IntStream.range(0, 500).mapToObj(i -> postRepository.save(post())).toList();
+        postLookupFilter.rebuild();
+
+        Post created = postRepository.save(post());
+        postLookupFilter.onPostChanged(PostChangedEvent.created(created));
+
+        assertThat(postLookupFilter.isReady()).isTrue();
+        assertThat(stored).noneMatch(post -> postLookupFilter.isAbsent(post.getId()));
+        assertThat(postLookupFilter.isAbsent(created.getId())).isFalse();
+
+        long ruledOut = IntStream.range(0, 1_000)
+                                 .filter(i -> postLookupFilter.isAbsent(new ObjectId().toHexString()))
+                                 .count();
+        assertThat(ruledOut).isGreaterThan(950);
+    }
+
+    @Test
+    @DisplayName("Should rebuild once changes exceed the headroom and drop deleted ids")
+    void shouldRebuildOnceChangesExceedHeadroom() throws InterruptedException {
+        postLookupFilter = new PostLookupFilter(
+                new LookupFilterProperties(true, 4, 0.0001, Duration.ofMinutes(10), false),
+                postRepository,
+                new BackgroundThreads(new MockEnvironment()),
+                meterRegistry);
+        Post deleted = postRepository.save(post());
+        postLookupFilter.rebuild();
+
+        postRepository.deleteById(deleted.getId());
+        postLookupFilter.onPostChanged(PostChangedEvent.deleted(deleted.getId()));
+        for (int i = 0; i < 3; i++) {
+            Post post = postRepository.save(post());
+            postLookupFilter.onPostChanged(PostChangedEvent.created(post));
+        }
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!postLookupFilter.isAbsent(deleted.getId())) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+        assertThat(postRepository.findAll()).noneMatch(post -> postLookupFilter.isAbsent(post.getId()));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown ids without querying the database unless misses are confirmed")
+    void shouldRejectUnknownIdsWithoutQueryingDatabaseUnlessMissesAreConfirmed() {
+        postLookupFilter.rebuild();
+        Post writtenElsewhere = postRepository.save(post());
+
+        assertThat(postLookupFilter.isAbsent(writtenElsewhere.getId())).isTrue();
+        assertThat(meterRegistry.get("posts.lookup.filter").tag("outcome", "missed").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should confirm rejections with the database and learn posts written by other instances when enabled")
+    void shouldConfirmRejectionsWithDatabaseAndLearnPostsWrittenElsewhere() {
+        postLookupFilter = new PostLookupFilter(
+                new LookupFilterProperties(true, 1_000, 0.01, Duration.ofMinutes(10), true),
+                postRepository,
+                new BackgroundThreads(new MockEnvironment()),
+                meterRegistry);
+        postLookupFilter.rebuild();
+        Post writtenElsewhere = postRepository.save(post());
+
+        assertThat(postLookupFilter.isAbsent(writtenElsewhere.getId())).isFalse();
+        assertThat(postLookupFilter.isAbsent(writtenElsewhere.getId())).isFalse();
+
+        assertThat(meterRegistry.get("posts.lookup.filter").tag("outcome", "missed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("posts.lookup.filter").tag("outcome", "passed").counter().count()).isEqualTo(1);
+    }
+
+    private Post post() {
+        Instant now = Instant.now();
+        return Post.builder()
+                   .title("Getting Started with Spring Boot")
+                   .description("A comprehensive guide to building REST APIs with Spring Boot framework.")
+                   .body("Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.")
+                   .createdAt(now)
+                   .updatedAt(now)
+                   .build();
+    }
+}
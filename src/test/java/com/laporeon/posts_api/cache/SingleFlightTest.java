@@ -0,0 +1,133 @@
+package com.laporeon.posts_api.cache;
+
+import com.laporeon.posts_api.exceptions.PostNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private MeterRegistry meterRegistry;
+
+    private SingleFlight<String, String> singleFlight;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("findById", meterRegistry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should share one in-flight load between concurrent callers for the same key")
+    void shouldShareOneInFlightLoadBetweenConcurrentCallers() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("post", () -> {
+                loads.incrementAndGet();
+                await(release);
+                return "loaded";
+            })));
+        }
+        awaitCollapsed(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("posts.coalesced.calls").tag("outcome", "executed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("posts.coalesced.followers").summary().max()).isEqualTo(CALLERS - 1);
+        assertThat(meterRegistry.get("posts.coalesced.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should rethrow the loader exception to every collapsed caller")
+    void shouldRethrowLoaderExceptionToEveryCollapsedCaller() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("missing", () -> {
+            await(release);
+            throw new PostNotFoundException("missing");
+        }));
+        waitUntilInFlight();
+        Future<String> follower = executor.submit(() -> singleFlight.execute("missing", () -> "unexpected"));
+        awaitCollapsed(1);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(PostNotFoundException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(PostNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should start a fresh load for callers arriving after the key is forgotten")
+    void shouldStartFreshLoadAfterKeyIsForgotten() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> stale = executor.submit(() -> singleFlight.execute("post", () -> {
+            await(release);
+            return "before update";
+        }));
+        waitUntilInFlight();
+
+        singleFlight.forget("post");
+        String fresh = singleFlight.execute("post", () -> "after update");
+        release.countDown();
+
+        assertThat(fresh).isEqualTo("after update");
+        assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("before update");
+        assertThat(meterRegistry.get("posts.coalesced.calls").tag("outcome", "collapsed").counter().count()).isZero();
+    }
+
+    private void awaitCollapsed(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("posts.coalesced.calls").tag("outcome", "collapsed").counter().count() < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private void waitUntilInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("posts.coalesced.in.flight").gauge().value() < 1) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
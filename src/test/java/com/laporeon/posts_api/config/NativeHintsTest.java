@@ -0,0 +1,64 @@
+package com.laporeon.posts_api.config;
+
+import com.laporeon.posts_api.dto.request.PostRequestDTO;
+import com.laporeon.posts_api.dto.response.MultiGetItemDTO;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.repositories.PostVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.projection.TargetAware;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NativeHints Tests")
+class NativeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should register the Post entity for reflective construction and field access")
+    void shouldRegisterPostEntityForReflection() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Post.class)
+                                         .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                                                               MemberCategory.DECLARED_FIELDS))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Should register DTO records and their nested types for Jackson binding")
+    void shouldRegisterDtoRecordsForBinding() throws Exception {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(PostRequestDTO.class.getMethod("title"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(PostResponseDTO.class.getMethod("createdAt"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(MultiGetItemDTO.class.getMethod("post"))).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Should register the proxy interfaces Spring Data uses for the PostVersion projection")
+    void shouldRegisterPostVersionProjectionProxy() {
+        ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+        PostVersion projection = projectionFactory.createProjection(PostVersion.class, Map.of("id", "post"));
+
+        assertThat(Proxy.isProxyClass(projection.getClass())).isTrue();
+        assertThat(projection.getClass().getInterfaces())
+                .containsExactly(PostVersion.class, TargetAware.class, SpringProxy.class, DecoratingProxy.class);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(projection.getClass().getInterfaces())).accepts(hints);
+    }
+}
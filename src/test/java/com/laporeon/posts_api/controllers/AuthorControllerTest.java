@@ -0,0 +1,87 @@
+package com.laporeon.posts_api.controllers;
+
+import com.laporeon.posts_api.dto.response.AuthorResponseDTO;
+import com.laporeon.posts_api.dto.response.CursorPageResponseDTO;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.services.PostAuthorService;
+import com.laporeon.posts_api.utils.PostCursor;
+import com.laporeon.posts_api.utils.PostSortField;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AuthorController.class)
+@DisplayName("AuthorController Tests")
+class AuthorControllerTest {
+
+    private static final String VALID_AUTHOR = "laporeon";
+    private static final String AUTHORS_ENDPOINT = "/api/v1/authors";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PostAuthorService postAuthorService;
+
+    @Test
+    @DisplayName("GET /api/v1/authors/{author}/posts - Should return 200 with the author's newest posts first")
+    void shouldReturn200WithAuthorsNewestPostsFirst() throws Exception {
+        Instant now = Instant.now();
+        PostResponseDTO post = new PostResponseDTO(
+                new ObjectId().toString(),
+                "Getting Started with Spring Boot",
+                "A comprehensive guide to building REST APIs with Spring Boot framework.",
+                "Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.",
+                VALID_AUTHOR,
+                now,
+                now
+        );
+        PostCursor newestFirst = PostCursor.first(PostSortField.CREATED_AT, Sort.Direction.DESC);
+        when(postAuthorService.listPosts(VALID_AUTHOR, newestFirst, 1))
+                .thenReturn(new CursorPageResponseDTO<>(List.of(post), 1, 1, "next-token", true));
+
+        mockMvc.perform(get(AUTHORS_ENDPOINT + "/" + VALID_AUTHOR + "/posts")
+                                .param("size", "1"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.content[0].author").value(VALID_AUTHOR))
+               .andExpect(jsonPath("$.nextCursor").value("next-token"));
+
+        verify(postAuthorService).listPosts(eq(VALID_AUTHOR), eq(newestFirst), eq(1));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/authors/{author} - Should return 200 with the author's number of posts")
+    void shouldReturn200WithAuthorsNumberOfPosts() throws Exception {
+        when(postAuthorService.findAuthor(VALID_AUTHOR)).thenReturn(new AuthorResponseDTO(VALID_AUTHOR, 42));
+
+        mockMvc.perform(get(AUTHORS_ENDPOINT + "/" + VALID_AUTHOR))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.author").value(VALID_AUTHOR))
+               .andExpect(jsonPath("$.numberOfPosts").value(42));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/authors/{author}/posts - Should return 400 when cursor is malformed")
+    void shouldReturn400WhenCursorIsMalformed() throws Exception {
+        mockMvc.perform(get(AUTHORS_ENDPOINT + "/" + VALID_AUTHOR + "/posts")
+                                .param("cursor", "not-a-cursor"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value("Cursor not-a-cursor is invalid or has expired."));
+
+        verifyNoInteractions(postAuthorService);
+    }
+}
@@ -1,11 +1,35 @@
 package com.laporeon.posts_api.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.laporeon.posts_api.dto.request.BulkOperationDTO;
+import com.laporeon.posts_api.dto.request.BulkRequestDTO;
+import com.laporeon.posts_api.dto.request.MultiGetRequestDTO;
 import com.laporeon.posts_api.dto.request.PostRequestDTO;
+import com.laporeon.posts_api.dto.response.BulkItemResultDTO;
+import com.laporeon.posts_api.dto.response.BulkResponseDTO;
+import com.laporeon.posts_api.dto.response.ChangeFeedResponseDTO;
+import com.laporeon.posts_api.dto.response.CursorPageResponseDTO;
+import com.laporeon.posts_api.dto.response.ImportLineErrorDTO;
+import com.laporeon.posts_api.dto.response.ImportResponseDTO;
+import com.laporeon.posts_api.dto.response.MultiGetItemDTO;
+import com.laporeon.posts_api.dto.response.MultiGetResponseDTO;
 import com.laporeon.posts_api.dto.response.PageResponseDTO;
+import com.laporeon.posts_api.dto.response.PostChangeDTO;
 import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.exceptions.InvalidSearchQueryException;
+import com.laporeon.posts_api.exceptions.ChangeTokenExpiredException;
 import com.laporeon.posts_api.exceptions.PostNotFoundException;
+import com.laporeon.posts_api.exceptions.WriteQueueFullException;
+import com.laporeon.posts_api.services.PostBulkService;
+import com.laporeon.posts_api.services.PostChangeFeedService;
+import com.laporeon.posts_api.services.PostExportService;
+import com.laporeon.posts_api.services.PostImportService;
 import com.laporeon.posts_api.services.PostService;
+import com.laporeon.posts_api.services.PostStreamService;
+import com.laporeon.posts_api.services.PostWriteBehindService;
+import com.laporeon.posts_api.utils.CountMode;
+import com.laporeon.posts_api.utils.PostCursor;
+import com.laporeon.posts_api.utils.PostETags;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,18 +37,28 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(PostController.class)
@@ -40,9 +74,28 @@ class PostControllerTest {
     @MockitoBean
     private PostService postService;
 
+    @MockitoBean
+    private PostBulkService postBulkService;
+
+    @MockitoBean
+    private PostChangeFeedService postChangeFeedService;
+
+    @MockitoBean
+    private PostExportService postExportService;
+
+    @MockitoBean
+    private PostImportService postImportService;
+
+    @MockitoBean
+    private PostStreamService postStreamService;
+
+    @MockitoBean
+    private PostWriteBehindService postWriteBehindService;
+
     private static final String VALID_TITLE = "Getting Started with Spring Boot";
     private static final String VALID_DESCRIPTION = "A comprehensive guide to building REST APIs with Spring Boot framework.";
     private static final String VALID_BODY = "Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.";
+    private static final String VALID_AUTHOR = "laporeon";
     private static final String VALIDATION_ERROR_MESSAGE = "Request validation failed for one or more fields";
     private static final String NOT_FOUND_MESSAGE = "Post with id %s not found.";
     private static final int DEFAULT_PAGE = 0;
@@ -65,6 +118,7 @@ class PostControllerTest {
                 VALID_TITLE,
                 VALID_DESCRIPTION,
                 VALID_BODY,
+                VALID_AUTHOR,
                 createdAt,
                 updatedAt
         );
@@ -73,7 +127,7 @@ class PostControllerTest {
     @Test
     @DisplayName("POST /api/v1/posts - Should return 201 when given valid request data")
     void shouldReturnCreatedWhenGivenValidRequestData() throws Exception {
-        PostRequestDTO validRequest = new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY);
+        PostRequestDTO validRequest = new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, VALID_AUTHOR);
 
         when(postService.create(any(PostRequestDTO.class))).thenReturn(mockedPostResponse);
 
@@ -85,11 +139,43 @@ class PostControllerTest {
                .andExpect(jsonPath("$.title").value(mockedPostResponse.title()));
     }
 
+    @Test
+    @DisplayName("POST /api/v1/posts - Should return 202 with the pre-generated id when write-behind is enabled")
+    void shouldReturn202WhenWriteBehindIsEnabled() throws Exception {
+        PostRequestDTO validRequest = new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, VALID_AUTHOR);
+
+        when(postWriteBehindService.isEnabled()).thenReturn(true);
+        when(postWriteBehindService.enqueue(any(PostRequestDTO.class))).thenReturn(mockedPostResponse);
+
+        mockMvc.perform(post(POSTS_ENDPOINT)
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content(objectMapper.writeValueAsString(validRequest)))
+               .andExpect(status().isAccepted())
+               .andExpect(jsonPath("$.id").value(mockedPostResponse.id()));
+
+        verify(postService, never()).create(any(PostRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/posts - Should return 503 with Retry-After when the write-behind queue is full")
+    void shouldReturn503WhenWriteBehindQueueIsFull() throws Exception {
+        PostRequestDTO validRequest = new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, VALID_AUTHOR);
+
+        when(postWriteBehindService.isEnabled()).thenReturn(true);
+        when(postWriteBehindService.enqueue(any(PostRequestDTO.class))).thenThrow(new WriteQueueFullException());
+
+        mockMvc.perform(post(POSTS_ENDPOINT)
+                       .contentType(MediaType.APPLICATION_JSON)
+                       .content(objectMapper.writeValueAsString(validRequest)))
+               .andExpect(status().isServiceUnavailable())
+               .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+               .andExpect(jsonPath("$.message").value("Post write queue is not accepting new posts. Retry later."));
+    }
 
     @Test
     @DisplayName("POST /api/v1/posts - Should return 400 when required fields are missing")
     void shouldReturn400WhenRequiredFieldsAreMissing() throws Exception {
-        PostRequestDTO invalidRequest = new PostRequestDTO(null, null, null);
+        PostRequestDTO invalidRequest = new PostRequestDTO(null, null, null, null);
 
         mockMvc.perform(post(POSTS_ENDPOINT)
                        .contentType(MediaType.APPLICATION_JSON)
@@ -108,7 +194,7 @@ class PostControllerTest {
     @Test
     @DisplayName("POST /api/v1/posts - Should return 400 when given invalid required fields")
     void shouldReturn400WhenGivenInvalidRequiredFields() throws Exception {
-        PostRequestDTO invalidRequest = new PostRequestDTO("tit", "desc", "body");
+        PostRequestDTO invalidRequest = new PostRequestDTO("tit", "desc", "body", null);
 
         mockMvc.perform(post(POSTS_ENDPOINT)
                                 .contentType(MediaType.APPLICATION_JSON)
@@ -124,6 +210,91 @@ class PostControllerTest {
                .andExpect(jsonPath("$.errors[2].message").value("Title must be between 10 and 100 characters long."));
     }
 
+    @Test
+    @DisplayName("POST /api/v1/posts/_bulk - Should return 200 with one result per operation")
+    void shouldReturn200WithOneResultPerOperation() throws Exception {
+        BulkRequestDTO request = new BulkRequestDTO(List.of(
+                new BulkOperationDTO(BulkOperationDTO.Action.CREATE, null,
+                        new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, VALID_AUTHOR)),
+                new BulkOperationDTO(BulkOperationDTO.Action.DELETE, validPostId, null)));
+        BulkResponseDTO response = new BulkResponseDTO(true, List.of(
+                new BulkItemResultDTO(0, BulkOperationDTO.Action.CREATE, new ObjectId().toString(), 201, null),
+                new BulkItemResultDTO(1, BulkOperationDTO.Action.DELETE, validPostId, 404,
+                        NOT_FOUND_MESSAGE.formatted(validPostId))));
+
+        when(postBulkService.bulk(any(BulkRequestDTO.class))).thenReturn(response);
+
+        mockMvc.perform(post(POSTS_ENDPOINT + "/_bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.errors").value(true))
+               .andExpect(jsonPath("$.items[0].status").value(201))
+               .andExpect(jsonPath("$.items[1].status").value(404))
+               .andExpect(jsonPath("$.items[1].error").value(NOT_FOUND_MESSAGE.formatted(validPostId)));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/posts/_bulk - Should return 400 when no operations are given")
+    void shouldReturn400WhenNoBulkOperationsAreGiven() throws Exception {
+        mockMvc.perform(post(POSTS_ENDPOINT + "/_bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new BulkRequestDTO(List.of()))))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.errors[0].field").value("operations"));
+
+        verifyNoInteractions(postBulkService);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/posts/_mget - Should return 200 with missing ids reported inline")
+    void shouldReturn200WithMissingIdsReportedInline() throws Exception {
+        String missingId = new ObjectId().toString();
+        MultiGetResponseDTO response = new MultiGetResponseDTO(1, List.of(
+                new MultiGetItemDTO(validPostId, true, mockedPostResponse),
+                new MultiGetItemDTO(missingId, false, null)));
+
+        when(postService.findAllById(List.of(validPostId, missingId))).thenReturn(response);
+
+        mockMvc.perform(post(POSTS_ENDPOINT + "/_mget")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new MultiGetRequestDTO(List.of(validPostId, missingId)))))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.found").value(1))
+               .andExpect(jsonPath("$.items[0].post.id").value(validPostId))
+               .andExpect(jsonPath("$.items[1].id").value(missingId))
+               .andExpect(jsonPath("$.items[1].found").value(false))
+               .andExpect(jsonPath("$.items[1].post").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/posts/_mget - Should return 400 when no ids are given")
+    void shouldReturn400WhenNoIdsAreGiven() throws Exception {
+        mockMvc.perform(post(POSTS_ENDPOINT + "/_mget")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new MultiGetRequestDTO(List.of()))))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.errors[0].field").value("ids"));
+
+        verifyNoInteractions(postService);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/posts/_import - Should return 200 with the import report")
+    void shouldReturn200WithImportReport() throws Exception {
+        ImportResponseDTO response = new ImportResponseDTO(2, 1, 1,
+                List.of(new ImportLineErrorDTO(2, "Line is not a valid post JSON document.")));
+
+        when(postImportService.importPosts(any(InputStream.class))).thenReturn(response);
+
+        mockMvc.perform(post(POSTS_ENDPOINT + "/_import")
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .content(objectMapper.writeValueAsString(new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, VALID_AUTHOR)) + "\n{not json\n"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.imported").value(1))
+               .andExpect(jsonPath("$.errors[0].line").value(2));
+    }
+
     @Test
     @DisplayName("GET /api/v1/posts - Should return 200 and paginated posts")
     void shouldReturn200AndPaginatedPosts() throws Exception {
@@ -133,7 +304,7 @@ class PostControllerTest {
                 DEFAULT_PAGE,
                 DEFAULT_SIZE,
                 1,
-                1,
+                1L,
                 1,
                 true,
                 true,
@@ -142,11 +313,12 @@ class PostControllerTest {
                 false
         );
 
-        when(postService.listPosts(any(Pageable.class))).thenReturn(pageResponse);
+        when(postService.listPosts(any(Pageable.class), eq(CountMode.EXACT))).thenReturn(pageResponse);
 
         mockMvc.perform(get(POSTS_ENDPOINT)
                                 .param("page", String.valueOf(DEFAULT_PAGE))
-                                .param("size", String.valueOf(DEFAULT_SIZE)))
+                                .param("size", String.valueOf(DEFAULT_SIZE))
+                                .param("count", "exact"))
                .andExpect(status().isOk())
                .andExpect(jsonPath("$.content").isArray())
                .andExpect(jsonPath("$.content").isNotEmpty())
@@ -163,7 +335,7 @@ class PostControllerTest {
                 0,
                 0,
                 0,
-                0,
+                0L,
                 0,
                 false,
                 false,
@@ -172,7 +344,7 @@ class PostControllerTest {
                 false
         );
 
-        when(postService.listPosts(any(Pageable.class))).thenReturn(emptyPage);
+        when(postService.listPosts(any(Pageable.class), any(CountMode.class))).thenReturn(emptyPage);
 
         mockMvc.perform(get(POSTS_ENDPOINT))
                .andExpect(status().isOk())
@@ -180,6 +352,232 @@ class PostControllerTest {
                .andExpect(jsonPath("$.totalElements").value(0));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/posts - Should omit totals when count is not requested")
+    void shouldOmitTotalsWhenCountIsNotRequested() throws Exception {
+        PageResponseDTO<PostResponseDTO> sliceResponse = new PageResponseDTO<>(
+                List.of(mockedPostResponse),
+                DEFAULT_PAGE,
+                DEFAULT_SIZE,
+                null,
+                null,
+                1,
+                true,
+                false,
+                false,
+                true,
+                false
+        );
+
+        when(postService.listPosts(any(Pageable.class), eq(CountMode.NONE))).thenReturn(sliceResponse);
+
+        mockMvc.perform(get(POSTS_ENDPOINT))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.content").isNotEmpty())
+               .andExpect(jsonPath("$.totalElements").doesNotExist())
+               .andExpect(jsonPath("$.totalPages").doesNotExist())
+               .andExpect(jsonPath("$.isLastPage").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts - Should return 400 when count mode is unknown")
+    void shouldReturn400WhenCountModeIsUnknown() throws Exception {
+        mockMvc.perform(get(POSTS_ENDPOINT)
+                                .param("count", "approximate"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value("Count mode approximate is not supported."));
+
+        verifyNoInteractions(postService);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts - Should return 400 when sorting by a field without an index")
+    void shouldReturn400WhenSortingByFieldWithoutIndex() throws Exception {
+        mockMvc.perform(get(POSTS_ENDPOINT)
+                                .param("orderBy", "body"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value("Sorting by body is not supported."));
+
+        verifyNoInteractions(postService);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/cursor - Should return 200 and next cursor")
+    void shouldReturn200AndNextCursor() throws Exception {
+        CursorPageResponseDTO<PostResponseDTO> cursorResponse = new CursorPageResponseDTO<>(
+                List.of(mockedPostResponse),
+                1,
+                1,
+                "next-token",
+                true
+        );
+
+        when(postService.listPosts(any(PostCursor.class), eq(1))).thenReturn(cursorResponse);
+
+        mockMvc.perform(get(POSTS_ENDPOINT + "/cursor")
+                                .param("size", "1"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.content").isNotEmpty())
+               .andExpect(jsonPath("$.nextCursor").value("next-token"))
+               .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/cursor - Should return 400 when cursor is malformed")
+    void shouldReturn400WhenCursorIsMalformed() throws Exception {
+        mockMvc.perform(get(POSTS_ENDPOINT + "/cursor")
+                                .param("cursor", "not-a-cursor"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value("Cursor not-a-cursor is invalid or has expired."));
+
+        verifyNoInteractions(postService);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/cursor - Should return 400 when size is out of range")
+    void shouldReturn400WhenCursorSizeIsOutOfRange() throws Exception {
+        mockMvc.perform(get(POSTS_ENDPOINT + "/cursor")
+                                .param("size", "0"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value(VALIDATION_ERROR_MESSAGE))
+               .andExpect(jsonPath("$.errors[0].field").value("size"))
+               .andExpect(jsonPath("$.errors[0].message").value("Size must be between 1 and 100."));
+
+        mockMvc.perform(get(POSTS_ENDPOINT + "/cursor")
+                                .param("size", "-5"))
+               .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(postService);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/cursor - Should return 400 when direction is unknown")
+    void shouldReturn400WhenCursorDirectionIsUnknown() throws Exception {
+        mockMvc.perform(get(POSTS_ENDPOINT + "/cursor")
+                                .param("direction", "sideways"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value("Sort direction sideways is not supported."));
+
+        verifyNoInteractions(postService);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/changes - Should return upserts and tombstones with the next token")
+    void shouldReturnChangesWithNextToken() throws Exception {
+        Instant deletedAt = Instant.parse("2025-10-28T18:40:12.118Z");
+        ChangeFeedResponseDTO changes = new ChangeFeedResponseDTO(
+                List.of(PostChangeDTO.upserted(mockedPostResponse), PostChangeDTO.deleted("68e0124a70424186e056e45d", deletedAt)),
+                2,
+                "next-token",
+                false);
+
+        when(postChangeFeedService.changesSince("token", 50)).thenReturn(changes);
+
+        mockMvc.perform(get(POSTS_ENDPOINT + "/changes")
+                                .param("since", "token")
+                                .param("size", "50"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.changes[0].type").value("UPSERTED"))
+               .andExpect(jsonPath("$.changes[0].post.id").value(validPostId))
+               .andExpect(jsonPath("$.changes[1].type").value("DELETED"))
+               .andExpect(jsonPath("$.changes[1].post").doesNotExist())
+               .andExpect(jsonPath("$.nextToken").value("next-token"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/changes - Should return 410 when the token is older than the deletion history")
+    void shouldReturn410WhenChangeTokenExpired() throws Exception {
+        when(postChangeFeedService.changesSince("old-token", null)).thenThrow(new ChangeTokenExpiredException("old-token"));
+
+        mockMvc.perform(get(POSTS_ENDPOINT + "/changes")
+                                .param("since", "old-token"))
+               .andExpect(status().isGone());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/stream - Should open an event stream resuming after the Last-Event-ID")
+    void shouldOpenEventStreamResumingAfterLastEventId() throws Exception {
+        when(postStreamService.subscribe("mgd0k2xq-7")).thenReturn(Optional.of(new SseEmitter()));
+
+        mockMvc.perform(get(POSTS_ENDPOINT + "/stream")
+                                .header("Last-Event-ID", "mgd0k2xq-7")
+                                .accept(MediaType.TEXT_EVENT_STREAM))
+               .andExpect(request().asyncStarted())
+               .andExpect(status().isOk());
+
+        verify(postStreamService).subscribe("mgd0k2xq-7");
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/stream - Should return 503 with Retry-After when too many streams are open")
+    void shouldReturn503WhenTooManyStreamsAreOpen() throws Exception {
+        when(postStreamService.subscribe(null)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get(POSTS_ENDPOINT + "/stream")
+                                .accept(MediaType.TEXT_EVENT_STREAM))
+               .andExpect(status().isServiceUnavailable())
+               .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/export - Should stream posts as NDJSON")
+    void shouldStreamPostsAsNdjson() throws Exception {
+        Instant updatedSince = Instant.parse("2025-10-01T00:00:00Z");
+
+        when(postExportService.export(eq(updatedSince), eq(100), any(OutputStream.class))).thenAnswer(invocation -> {
+            invocation.getArgument(2, OutputStream.class).write("{\"id\":\"1\"}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        MvcResult result = mockMvc.perform(get(POSTS_ENDPOINT + "/export")
+                                                   .param("updatedSince", updatedSince.toString())
+                                                   .param("batchSize", "100"))
+                                  .andExpect(request().asyncStarted())
+                                  .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+               .andExpect(status().isOk())
+               .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+               .andExpect(content().string("{\"id\":\"1\"}\n"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/export - Should return 400 when updatedSince is not an instant")
+    void shouldReturn400WhenUpdatedSinceIsNotAnInstant() throws Exception {
+        mockMvc.perform(get(POSTS_ENDPOINT + "/export")
+                                .param("updatedSince", "yesterday"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value("Parameter updatedSince has an invalid value."));
+
+        verifyNoInteractions(postExportService);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/search - Should return 200 and matching posts")
+    void shouldReturn200AndMatchingPosts() throws Exception {
+        PageResponseDTO<PostResponseDTO> pageResponse = new PageResponseDTO<>(
+                List.of(mockedPostResponse), DEFAULT_PAGE, DEFAULT_SIZE, null, null, 1,
+                true, true, false, false, true);
+
+        when(postService.search(eq("spring boot"), any(Pageable.class))).thenReturn(pageResponse);
+
+        mockMvc.perform(get(POSTS_ENDPOINT + "/search")
+                                .param("q", "spring boot"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.content[0].id").value(mockedPostResponse.id()))
+               .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/search - Should return 400 when query is blank")
+    void shouldReturn400WhenSearchQueryIsBlank() throws Exception {
+        when(postService.search(eq(""), any(Pageable.class))).thenThrow(new InvalidSearchQueryException());
+
+        mockMvc.perform(get(POSTS_ENDPOINT + "/search"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value("Search query must not be blank."));
+    }
+
     @Test
     @DisplayName("GET /api/v1/posts/{id} - Should return 200 when id exists")
     void shouldReturn200WhenIdExists() throws Exception {
@@ -191,6 +589,47 @@ class PostControllerTest {
                .andExpect(jsonPath("$.title").value(mockedPostResponse.title()));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/posts/{id} - Should return ETag derived from id and update time")
+    void shouldReturnETagDerivedFromIdAndUpdateTime() throws Exception {
+        when(postService.findById(validPostId)).thenReturn(mockedPostResponse);
+
+        mockMvc.perform(get(POSTS_ENDPOINT + "/" + validPostId))
+               .andExpect(status().isOk())
+               .andExpect(header().string(HttpHeaders.ETAG, PostETags.of(validPostId, updatedAt)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/{id} - Should return 304 without loading the post when ETag matches")
+    void shouldReturn304WithoutLoadingPostWhenETagMatches() throws Exception {
+        String eTag = PostETags.of(validPostId, updatedAt);
+
+        when(postService.findETag(validPostId)).thenReturn(eTag);
+
+        mockMvc.perform(get(POSTS_ENDPOINT + "/" + validPostId)
+                                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+               .andExpect(status().isNotModified())
+               .andExpect(header().string(HttpHeaders.ETAG, eTag))
+               .andExpect(content().string(""));
+
+        verify(postService, never()).findById(validPostId);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts - Should return 304 without loading the page when ETag matches")
+    void shouldReturn304WithoutLoadingPageWhenETagMatches() throws Exception {
+        String eTag = "\"page-etag\"";
+
+        when(postService.pageETag(any(Pageable.class), eq(CountMode.NONE))).thenReturn(eTag);
+
+        mockMvc.perform(get(POSTS_ENDPOINT)
+                                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+               .andExpect(status().isNotModified())
+               .andExpect(content().string(""));
+
+        verify(postService, never()).listPosts(any(Pageable.class), any(CountMode.class));
+    }
+
     @Test
     @DisplayName("GET /api/v1/posts/{id} - Should return 404 when id does not exists")
     void shouldReturn404WhenIdDoesNotExists() throws Exception {
@@ -206,7 +645,7 @@ class PostControllerTest {
     @Test
     @DisplayName("PUT /api/v1/posts/{id} - Should return 200 when updating post with existing id and valid request data")
     void shouldReturn200WhenUpdatingPostWithExistingIdAndValidRequestData() throws Exception {
-        PostRequestDTO validRequest = new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY);
+        PostRequestDTO validRequest = new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, VALID_AUTHOR);
 
         when(postService.update(eq(validPostId), any(PostRequestDTO.class)))
                 .thenReturn(mockedPostResponse);
@@ -225,7 +664,7 @@ class PostControllerTest {
     @DisplayName("PUT /api/v1/posts/{id} - Should return 404 when updating post with non existing id")
     void shouldReturn404WhenGivenNonExistingId() throws Exception {
         String invalidId = "68e0124a70424186e056e45d";
-        PostRequestDTO validRequest = new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY);
+        PostRequestDTO validRequest = new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, VALID_AUTHOR);
 
         doThrow(new PostNotFoundException(invalidId))
                 .when(postService)
@@ -0,0 +1,123 @@
+package com.laporeon.posts_api.controllers;
+
+import com.laporeon.posts_api.dto.request.PostRequestDTO;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.exceptions.PostNotFoundException;
+import com.laporeon.posts_api.services.ReactivePostService;
+import com.laporeon.posts_api.utils.PostETags;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(ReactivePostController.class)
+@DisplayName("ReactivePostController Tests")
+class ReactivePostControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private ReactivePostService reactivePostService;
+
+    private static final String VALID_TITLE = "Getting Started with Spring Boot";
+    private static final String VALID_DESCRIPTION = "A comprehensive guide to building REST APIs with Spring Boot framework.";
+    private static final String VALID_BODY = "Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.";
+    private static final String VALID_AUTHOR = "laporeon";
+    private static final String POSTS_ENDPOINT = "/api/v1/posts";
+
+    private PostResponseDTO mockedPostResponse;
+
+    @BeforeEach
+    void setUp() {
+        mockedPostResponse = new PostResponseDTO(
+                new ObjectId().toHexString(),
+                VALID_TITLE,
+                VALID_DESCRIPTION,
+                VALID_BODY,
+                VALID_AUTHOR,
+                Instant.now(),
+                Instant.now()
+        );
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/posts - Should return 201 when given valid request data")
+    void shouldReturnCreatedWhenGivenValidRequestData() {
+        when(reactivePostService.create(any(PostRequestDTO.class))).thenReturn(Mono.just(mockedPostResponse));
+
+        webTestClient.post()
+                     .uri(POSTS_ENDPOINT)
+                     .contentType(MediaType.APPLICATION_JSON)
+                     .bodyValue(new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, VALID_AUTHOR))
+                     .exchange()
+                     .expectStatus().isCreated()
+                     .expectBody()
+                     .jsonPath("$.id").isEqualTo(mockedPostResponse.id());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/posts - Should return 400 when required fields are missing")
+    void shouldReturn400WhenRequiredFieldsAreMissing() {
+        webTestClient.post()
+                     .uri(POSTS_ENDPOINT)
+                     .contentType(MediaType.APPLICATION_JSON)
+                     .bodyValue(new PostRequestDTO(null, null, null, null))
+                     .exchange()
+                     .expectStatus().isBadRequest()
+                     .expectBody()
+                     .jsonPath("$.errors[0].field").isEqualTo("body")
+                     .jsonPath("$.errors[2].field").isEqualTo("title");
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/{id} - Should return 304 when ETag matches")
+    void shouldReturnNotModifiedWhenETagMatches() {
+        String eTag = PostETags.of(mockedPostResponse.id(), mockedPostResponse.updatedAt());
+
+        when(reactivePostService.findById(mockedPostResponse.id())).thenReturn(Mono.just(mockedPostResponse));
+
+        webTestClient.get()
+                     .uri(POSTS_ENDPOINT + "/{id}", mockedPostResponse.id())
+                     .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                     .exchange()
+                     .expectStatus().isNotModified()
+                     .expectHeader().valueEquals(HttpHeaders.ETAG, eTag);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/{id} - Should return 404 when post does not exist")
+    void shouldReturnNotFoundWhenPostDoesNotExist() {
+        when(reactivePostService.findById("missing")).thenReturn(Mono.error(new PostNotFoundException("missing")));
+
+        webTestClient.get()
+                     .uri(POSTS_ENDPOINT + "/{id}", "missing")
+                     .exchange()
+                     .expectStatus().isNotFound()
+                     .expectBody()
+                     .jsonPath("$.message").isEqualTo("Post with id missing not found.");
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/posts/{id} - Should return 204 when post is deleted")
+    void shouldReturnNoContentWhenPostIsDeleted() {
+        when(reactivePostService.delete(mockedPostResponse.id())).thenReturn(Mono.empty());
+
+        webTestClient.delete()
+                     .uri(POSTS_ENDPOINT + "/{id}", mockedPostResponse.id())
+                     .exchange()
+                     .expectStatus().isNoContent();
+    }
+}
@@ -0,0 +1,252 @@
+package com.laporeon.posts_api.repositories;
+
+import com.laporeon.posts_api.config.ChangeFeedProperties;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.entities.PostTombstone;
+import com.laporeon.posts_api.utils.ChangeToken;
+import com.laporeon.posts_api.utils.PostCursor;
+import com.laporeon.posts_api.utils.PostSortField;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryPostRepository Tests")
+class InMemoryPostRepositoryTest {
+
+    private static final ChangeFeedProperties CHANGE_FEED_PROPERTIES =
+            new ChangeFeedProperties(Duration.ofDays(30), Duration.ofSeconds(1), 100, 1000);
+
+    private static final Instant BASE = Instant.parse("2025-10-01T00:00:00Z");
+
+    private static final String VALID_DESCRIPTION = "A comprehensive guide to building REST APIs with Spring Boot framework.";
+    private static final String VALID_BODY = "Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.";
+
+    private InMemoryPostRepository postRepository;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = new InMemoryPostRepository(CHANGE_FEED_PROPERTIES);
+    }
+
+    @Test
+    @DisplayName("Should assign id and timestamps on save and isolate stored posts from callers")
+    void shouldAssignIdAndTimestampsOnSaveAndIsolateStoredPosts() {
+        Post post = postRepository.save(Post.builder().title("Getting Started with Spring Boot").build());
+
+        assertThat(post.getId()).isNotNull();
+        assertThat(post.getCreatedAt()).isNotNull();
+        assertThat(post.getUpdatedAt()).isEqualTo(post.getCreatedAt());
+
+        post.setTitle("Changed outside the repository");
+        Post found = postRepository.findById(post.getId()).orElseThrow();
+        found.setTitle("Changed again");
+
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getTitle()).isEqualTo("Getting Started with Spring Boot");
+    }
+
+    @Test
+    @DisplayName("Should page through a sorted slice using the secondary index")
+    void shouldPageThroughSortedSliceUsingSecondaryIndex() {
+        Post first = store("Beta post about indexes", BASE);
+        Post second = store("Alpha post about indexes", BASE.plusSeconds(1));
+        Post third = store("Gamma post about indexes", BASE.plusSeconds(2));
+
+        Sort byCreatedAtDesc = PostSortField.CREATED_AT.sort(Sort.Direction.DESC);
+        Slice<Post> page = postRepository.findAllBy(PageRequest.of(0, 2, byCreatedAtDesc));
+        Slice<Post> next = postRepository.findAllBy(PageRequest.of(1, 2, byCreatedAtDesc));
+
+        assertThat(page.getContent()).extracting(Post::getId).containsExactly(third.getId(), second.getId());
+        assertThat(page.hasNext()).isTrue();
+        assertThat(next.getContent()).extracting(Post::getId).containsExactly(first.getId());
+        assertThat(next.hasNext()).isFalse();
+
+        Slice<Post> byTitle = postRepository.findAllBy(PageRequest.of(0, 10, PostSortField.TITLE.sort(Sort.Direction.ASC)));
+        assertThat(byTitle.getContent()).extracting(Post::getId).containsExactly(second.getId(), first.getId(), third.getId());
+    }
+
+    @Test
+    @DisplayName("Should walk a cursor across ties without duplicates and follow updates")
+    void shouldWalkCursorAcrossTiesWithoutDuplicatesAndFollowUpdates() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(store("Same title for every post", BASE).getId());
+        }
+
+        PostCursor cursor = PostCursor.first(PostSortField.UPDATED_AT, Sort.Direction.ASC);
+        List<String> walked = new ArrayList<>();
+        List<Post> batch;
+        while (!(batch = postRepository.findAfter(cursor, 2)).isEmpty()) {
+            batch.forEach(post -> walked.add(post.getId()));
+            cursor = cursor.after(batch.get(batch.size() - 1));
+        }
+        assertThat(walked).containsExactlyElementsOf(ids);
+
+        postRepository.updateContent(Post.builder()
+                                         .id(ids.get(0))
+                                         .title("Updated title for the post")
+                                         .description(VALID_DESCRIPTION)
+                                         .body(VALID_BODY)
+                                         .updatedAt(BASE.plusSeconds(60))
+                                         .build());
+
+        List<Post> latest = postRepository.findAfter(PostCursor.first(PostSortField.UPDATED_AT, Sort.Direction.DESC), 1);
+        assertThat(latest).extracting(Post::getId).containsExactly(ids.get(0));
+        assertThat(postRepository.streamUpdatedSince(BASE.plusSeconds(1), 100)).extracting(Post::getId).containsExactly(ids.get(0));
+    }
+
+    @Test
+    @DisplayName("Should not update the content of a post when the changes carry another author")
+    void shouldNotUpdateContentWhenChangesCarryAnotherAuthor() {
+        Post post = postRepository.save(newPost("Post written by its author", BASE).toBuilder().author("laporeon").build());
+
+        assertThat(postRepository.updateContent(post.toBuilder().title("Title from another author").author("someone-else").build()))
+                .isEmpty();
+        assertThat(postRepository.updateContent(post.toBuilder().title("Title from the same author").build()))
+                .hasValueSatisfying(updated -> assertThat(updated.getAuthor()).isEqualTo("laporeon"));
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getTitle()).isEqualTo("Title from the same author");
+    }
+
+    @Test
+    @DisplayName("Should apply bulk writes and report duplicate inserts and missing posts by position")
+    void shouldApplyBulkWritesAndReportDuplicateInsertsAndMissingPosts() {
+        Post existing = store("Existing post about Spring", BASE);
+        Post fresh = newPost("Fresh post about Spring", BASE);
+        Post missing = newPost("Missing post about Spring", BASE);
+
+        PostWriteResult result = postRepository.bulkWrite(List.of(
+                PostWrite.insert(existing),
+                PostWrite.insert(fresh),
+                PostWrite.delete(existing),
+                PostWrite.update(missing),
+                PostWrite.delete(missing)));
+
+        assertThat(result.errors()).containsOnlyKeys(0);
+        assertThat(result.errors().get(0)).startsWith("E11000 duplicate key error");
+        assertThat(result.duplicates()).containsExactly(0);
+        assertThat(result.missing()).containsExactlyInAnyOrder(3, 4);
+        assertThat(postRepository.findAll()).extracting(Post::getId).containsExactly(fresh.getId());
+        assertThat(postRepository.count()).isEqualTo(1);
+        assertThat(postRepository.removeById(existing.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should page through one author's posts by creation time and count them")
+    void shouldPageThroughOneAuthorsPostsAndCountThem() {
+        Post oldest = store("Oldest post by the author", "laporeon", BASE);
+        store("Post by somebody else", "someone-else", BASE.plusSeconds(1));
+        Post middle = store("Middle post by the author", "laporeon", BASE.plusSeconds(2));
+        Post newest = store("Newest post by the author", "laporeon", BASE.plusSeconds(3));
+
+        PostCursor first = PostCursor.first(PostSortField.CREATED_AT, Sort.Direction.DESC);
+        List<Post> page = postRepository.findAfterByAuthor("laporeon", first, 2);
+        List<Post> next = postRepository.findAfterByAuthor("laporeon", first.after(page.get(1)), 2);
+
+        assertThat(page).extracting(Post::getId).containsExactly(newest.getId(), middle.getId());
+        assertThat(next).extracting(Post::getId).containsExactly(oldest.getId());
+        assertThat(postRepository.countByAuthor("laporeon")).isEqualTo(3);
+
+        assertThat(postRepository.removeById(middle.getId())).get().extracting(Post::getAuthor).isEqualTo("laporeon");
+        assertThat(postRepository.countByAuthor("laporeon")).isEqualTo(2);
+        assertThat(postRepository.findAfterByAuthor("nobody", first, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should rank search results by weighted term matches")
+    void shouldRankSearchResultsByWeightedTermMatches() {
+        Post inBody = postRepository.save(Post.builder().title("Building APIs").description("A short guide").body("Spring Boot").build());
+        Post inTitle = postRepository.save(Post.builder().title("Spring Boot basics").description("A short guide").body("Nothing").build());
+        postRepository.save(Post.builder().title("Unrelated").description("Nothing to see").body("Nothing").build());
+
+        Slice<Post> result = postRepository.search("spring", PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).extracting(Post::getId).containsExactly(inTitle.getId(), inBody.getId());
+    }
+
+    @Test
+    @DisplayName("Should answer queries by example from the stored posts")
+    void shouldAnswerQueriesByExampleFromStoredPosts() {
+        Post oldest = store("Spring Boot basics", "laporeon", BASE);
+        store("Spring Data basics", "someone-else", BASE.plusSeconds(1));
+        Post newest = store("Spring Boot testing", "laporeon", BASE.plusSeconds(2));
+
+        Example<Post> byAuthor = Example.of(Post.builder().author("laporeon").build());
+        Example<Post> titleStartsWith = Example.of(
+                Post.builder().title("spring boot").build(),
+                ExampleMatcher.matching().withIgnoreCase().withStringMatcher(ExampleMatcher.StringMatcher.STARTING));
+
+        assertThat(postRepository.findAll(byAuthor, Sort.by(Sort.Direction.DESC, "createdAt")))
+                .extracting(Post::getId)
+                .containsExactly(newest.getId(), oldest.getId());
+        assertThat(postRepository.count(titleStartsWith)).isEqualTo(2);
+        assertThat(postRepository.exists(Example.of(Post.builder().author("nobody").build()))).isFalse();
+        assertThat(postRepository.findAll(byAuthor, PageRequest.of(1, 1, Sort.by("createdAt"))).getContent())
+                .extracting(Post::getId)
+                .containsExactly(newest.getId());
+        Post first = postRepository.findBy(byAuthor, query -> query.sortBy(Sort.by("createdAt")).firstValue());
+        assertThat(first.getId()).isEqualTo(oldest.getId());
+    }
+
+    @Test
+    @DisplayName("Should forget tombstones when every post is deleted")
+    void shouldForgetTombstonesWhenEveryPostIsDeleted() {
+        Post post = store("Post that will be removed", BASE);
+        postRepository.removeById(post.getId());
+
+        postRepository.deleteAll();
+
+        assertThat(postRepository.findDeletedAfter(ChangeToken.first(), Instant.now().plusSeconds(60), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should prune tombstones older than the retention when a post is removed")
+    void shouldPruneTombstonesOlderThanRetentionWhenPostIsRemoved() throws InterruptedException {
+        postRepository = new InMemoryPostRepository(
+                new ChangeFeedProperties(Duration.ofMillis(1), Duration.ofSeconds(1), 100, 1000));
+        Post expired = store("Post removed long ago", BASE);
+        Post recent = store("Post removed just now", BASE.plusSeconds(1));
+
+        postRepository.removeById(expired.getId());
+        Thread.sleep(5);
+        postRepository.removeById(recent.getId());
+
+        assertThat(postRepository.findDeletedAfter(ChangeToken.first(), Instant.now().plusSeconds(60), 10))
+                .extracting(PostTombstone::getId)
+                .containsExactly(recent.getId());
+    }
+
+    private Post store(String title, Instant at) {
+        return store(title, null, at);
+    }
+
+    private Post store(String title, String author, Instant at) {
+        Post post = newPost(title, at);
+        post.setAuthor(author);
+        postRepository.bulkWrite(List.of(PostWrite.insert(post)));
+        return post;
+    }
+
+    private Post newPost(String title, Instant at) {
+        return Post.builder()
+                   .id(new ObjectId().toHexString())
+                   .title(title)
+                   .description(VALID_DESCRIPTION)
+                   .body(VALID_BODY)
+                   .createdAt(at)
+                   .updatedAt(at)
+                   .build();
+    }
+}
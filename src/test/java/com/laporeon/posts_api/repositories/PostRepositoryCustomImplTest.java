@@ -0,0 +1,102 @@
+package com.laporeon.posts_api.repositories;
+
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.entities.PostTombstone;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import org.bson.BsonString;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostRepositoryCustomImpl Tests")
+class PostRepositoryCustomImplTest {
+
+    private MongoTemplate mongoTemplate;
+
+    private PostRepositoryCustomImpl postRepository;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        postRepository = new PostRepositoryCustomImpl(mongoTemplate,
+                new StaticListableBeanFactory().getBeanProvider(PostReadRouter.class));
+        post = Post.builder()
+                   .id(new ObjectId().toHexString())
+                   .title("Getting Started with Spring Boot")
+                   .createdAt(Instant.now())
+                   .updatedAt(Instant.now())
+                   .build();
+    }
+
+    @Test
+    @DisplayName("Should record the tombstone before removing the post and restamp it afterwards")
+    void shouldRecordTombstoneBeforeRemovingPostAndRestampIt() {
+        when(mongoTemplate.findAndRemove(any(Query.class), eq(Post.class))).thenReturn(post);
+
+        assertThat(postRepository.removeById(post.getId())).contains(post);
+
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        InOrder inOrder = inOrder(mongoTemplate);
+        inOrder.verify(mongoTemplate).upsert(any(Query.class), updates.capture(), eq(PostTombstone.class));
+        inOrder.verify(mongoTemplate).findAndRemove(any(Query.class), eq(Post.class));
+        inOrder.verify(mongoTemplate).upsert(any(Query.class), updates.capture(), eq(PostTombstone.class));
+        assertThat(updates.getAllValues().get(0).getUpdateObject()).containsKey("$setOnInsert");
+        assertThat(updates.getAllValues().get(1).getUpdateObject()).containsKey("$set");
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(PostTombstone.class));
+    }
+
+    @Test
+    @DisplayName("Should drop only its own pending tombstone when there was no post to remove")
+    void shouldDropOnlyItsOwnPendingTombstoneWhenThereWasNoPostToRemove() {
+        assertThat(postRepository.removeById(post.getId())).isEmpty();
+
+        ArgumentCaptor<Query> cleanup = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(cleanup.capture(), eq(PostTombstone.class));
+        assertThat(cleanup.getValue().getQueryObject()).containsKeys("id", "deletedAt");
+        verify(mongoTemplate, times(1)).upsert(any(Query.class), any(Update.class), eq(PostTombstone.class));
+    }
+
+    @Test
+    @DisplayName("Should record tombstones before bulk removing posts and restamp them afterwards")
+    void shouldRecordTombstonesBeforeBulkRemovingPostsAndRestampThem() {
+        BulkOperations tombstones = mock(BulkOperations.class);
+        BulkOperations posts = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostTombstone.class)).thenReturn(tombstones);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Post.class)).thenReturn(posts);
+        when(tombstones.execute()).thenReturn(BulkWriteResult.acknowledged(0, 0, 0, 0,
+                List.of(new BulkWriteUpsert(0, new BsonString(post.getId()))), List.of()));
+        when(posts.execute()).thenReturn(BulkWriteResult.acknowledged(0, 0, 1, 0, List.of(), List.of()));
+
+        PostWriteResult result = postRepository.bulkWrite(List.of(PostWrite.delete(post)));
+
+        assertThat(result.missing()).isEmpty();
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        InOrder inOrder = inOrder(tombstones, posts);
+        inOrder.verify(tombstones).upsert(any(Query.class), updates.capture());
+        inOrder.verify(tombstones).execute();
+        inOrder.verify(posts).remove(any(Query.class));
+        inOrder.verify(posts).execute();
+        inOrder.verify(tombstones).upsert(any(Query.class), updates.capture());
+        assertThat(updates.getAllValues().get(0).getUpdateObject()).containsKey("$setOnInsert");
+        assertThat(updates.getAllValues().get(1).getUpdateObject()).containsKey("$set");
+    }
+}
@@ -0,0 +1,118 @@
+package com.laporeon.posts_api.repositories;
+
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.utils.PostCursor;
+import com.laporeon.posts_api.utils.PostSortField;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostRepository Read Routing Tests")
+class PostRepositoryReadRoutingTest {
+
+    private MongoClient primaryClient;
+
+    private MongoTemplate primary;
+
+    private MongoOperations secondary;
+
+    private MeterRegistry meterRegistry;
+
+    private PostReadRouter readRouter;
+
+    private PostRepository postRepository;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        primaryClient = MongoClients.create("mongodb://localhost:1");
+        primary = spy(new MongoTemplate(primaryClient, "posts"));
+        secondary = mock(MongoOperations.class);
+        meterRegistry = new SimpleMeterRegistry();
+        readRouter = new PostReadRouter(mock(MongoClient.class), secondary, Duration.ofSeconds(90), meterRegistry);
+
+        PostRepositoryCustomImpl custom = new PostRepositoryCustomImpl(primary,
+                new StaticListableBeanFactory(Map.of("postReadRouter", readRouter)).getBeanProvider(PostReadRouter.class));
+        postRepository = new MongoRepositoryFactory(primary).getRepository(PostRepository.class, RepositoryFragments.just(custom));
+
+        post = Post.builder()
+                   .id(new ObjectId().toHexString())
+                   .title("Getting Started with Spring Boot")
+                   .createdAt(Instant.now())
+                   .updatedAt(Instant.now())
+                   .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        primaryClient.close();
+    }
+
+    @Test
+    @DisplayName("Should send list, cursor, single post and export reads to the secondary")
+    void shouldSendListCursorSinglePostAndExportReadsToSecondary() {
+        when(secondary.findOne(any(Query.class), eq(Post.class))).thenReturn(post);
+        when(secondary.find(any(Query.class), eq(Post.class))).thenReturn(List.of(post));
+        when(secondary.stream(any(Query.class), eq(Post.class))).thenReturn(Stream.of(post));
+
+        assertThat(postRepository.findById(post.getId())).contains(post);
+        assertThat(postRepository.findAllBy(PageRequest.of(0, 10)).getContent()).containsExactly(post);
+        assertThat(postRepository.streamUpdatedSince(null, 500)).containsExactly(post);
+        assertThat(postRepository.findAfter(PostCursor.first(PostSortField.TITLE, Sort.Direction.ASC), 10)).containsExactly(post);
+        assertThat(postRepository.findAfterByAuthor("laporeon", PostCursor.first(PostSortField.CREATED_AT, Sort.Direction.DESC), 10))
+                .containsExactly(post);
+
+        verify(primary, never()).findOne(any(Query.class), eq(Post.class));
+        verify(primary, never()).find(any(Query.class), eq(Post.class));
+        verify(primary, never()).stream(any(Query.class), eq(Post.class));
+    }
+
+    @Test
+    @DisplayName("Should read a recently written post from the primary")
+    void shouldReadRecentlyWrittenPostFromPrimary() {
+        doReturn(post).when(primary).findOne(any(Query.class), eq(Post.class));
+
+        readRouter.onPostChanged(PostChangedEvent.updated(post));
+
+        assertThat(postRepository.findById(post.getId())).contains(post);
+        verifyNoInteractions(secondary);
+        assertThat(meterRegistry.get("posts.read.routing").tag("reason", "recent-write").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should retry on the primary when the secondary does not have the post yet")
+    void shouldRetryOnPrimaryWhenSecondaryDoesNotHavePostYet() {
+        when(secondary.findOne(any(Query.class), eq(Post.class))).thenReturn(null);
+        doReturn(post).when(primary).findOne(any(Query.class), eq(Post.class));
+
+        assertThat(postRepository.findById(post.getId())).contains(post);
+        assertThat(meterRegistry.get("posts.read.routing").tag("reason", "not-found-on-secondary").counter().count()).isEqualTo(1);
+    }
+}
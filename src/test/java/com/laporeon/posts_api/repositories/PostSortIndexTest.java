@@ -0,0 +1,151 @@
+package com.laporeon.posts_api.repositories;
+
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.utils.PostSortField;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Post sort index Tests")
+class PostSortIndexTest {
+
+    private static final String MONGO_TEST_URI = System.getenv()
+                                                       .getOrDefault("MONGO_TEST_URI", "mongodb://localhost:27017/posts_index_test");
+
+    private static MongoClient mongoClient;
+
+    private static MongoTemplate mongoTemplate;
+
+    private static MongoMappingContext mappingContext;
+
+    @BeforeAll
+    static void connect() {
+        ConnectionString connectionString = new ConnectionString(MONGO_TEST_URI);
+        mongoClient = MongoClients.create(MongoClientSettings.builder()
+                                                             .applyConnectionString(connectionString)
+                                                             .applyToClusterSettings(cluster -> cluster.serverSelectionTimeout(2, TimeUnit.SECONDS))
+                                                             .build());
+        mongoTemplate = new MongoTemplate(mongoClient, connectionString.getDatabase());
+        mappingContext = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        mongoClient.close();
+    }
+
+    @Test
+    @DisplayName("Should declare a (field, _id) index for every sortable field")
+    void shouldDeclareFieldAndIdIndexForEverySortableField() {
+        List<Document> declaredKeys = StreamSupport
+                .stream(new MongoPersistentEntityIndexResolver(mappingContext).resolveIndexFor(Post.class).spliterator(), false)
+                .map(IndexDefinition::getIndexKeys)
+                .toList();
+
+        for (PostSortField field : PostSortField.values()) {
+            Document expected = new Document(fieldName(field), 1).append("_id", 1);
+            assertThat(declaredKeys).as("index for %s", field).contains(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Should plan every allowed sort as an index scan without an in-memory sort")
+    void shouldPlanEveryAllowedSortAsIndexScan() {
+        assumeTrue(isMongoReachable(), "MongoDB is not reachable at " + MONGO_TEST_URI);
+
+        IndexOperations indexOperations = mongoTemplate.indexOps(Post.class);
+        new MongoPersistentEntityIndexResolver(mappingContext)
+                .resolveIndexFor(Post.class)
+                .forEach(indexOperations::createIndex);
+
+        QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        MongoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(Post.class);
+
+        for (PostSortField field : PostSortField.values()) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                Document sort = queryMapper.getMappedSort(new Query().with(field.sort(direction)).getSortObject(), entity);
+
+                Document explain = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Post.class))
+                                                .find()
+                                                .sort(sort)
+                                                .limit(11)
+                                                .explain();
+                String queryPlanner = explain.get("queryPlanner", Document.class).toJson();
+
+                assertThat(queryPlanner).as("plan for %s %s", field, direction).contains("IXSCAN");
+                assertThat(queryPlanner).as("plan for %s %s", field, direction).doesNotContain("\"stage\": \"SORT\"");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should plan author listings and counts on the author index without an in-memory sort")
+    void shouldPlanAuthorListingsAndCountsOnAuthorIndex() {
+        assumeTrue(isMongoReachable(), "MongoDB is not reachable at " + MONGO_TEST_URI);
+
+        IndexOperations indexOperations = mongoTemplate.indexOps(Post.class);
+        new MongoPersistentEntityIndexResolver(mappingContext)
+                .resolveIndexFor(Post.class)
+                .forEach(indexOperations::createIndex);
+
+        QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        MongoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(Post.class);
+        Document byAuthor = new Document("author", "laporeon");
+
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            Document sort = queryMapper.getMappedSort(
+                    new Query().with(PostSortField.CREATED_AT.sort(direction)).getSortObject(), entity);
+
+            Document explain = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Post.class))
+                                            .find(byAuthor)
+                                            .sort(sort)
+                                            .limit(11)
+                                            .explain();
+            String queryPlanner = explain.get("queryPlanner", Document.class).toJson();
+
+            assertThat(queryPlanner).as("plan for %s", direction).contains("author_created_at_id");
+            assertThat(queryPlanner).as("plan for %s", direction).doesNotContain("\"stage\": \"SORT\"");
+        }
+
+        Document countExplain = mongoTemplate.executeCommand(new Document("explain", new Document("count", mongoTemplate.getCollectionName(Post.class))
+                .append("query", byAuthor)));
+        assertThat(countExplain.get("queryPlanner", Document.class).toJson()).contains("COUNT_SCAN");
+    }
+
+    private String fieldName(PostSortField field) {
+        return mappingContext.getRequiredPersistentEntity(Post.class)
+                             .getRequiredPersistentProperty(field.getProperty())
+                             .getFieldName();
+    }
+
+    private boolean isMongoReachable() {
+        try {
+            mongoTemplate.executeCommand(new Document("ping", 1));
+            return true;
+        } catch (RuntimeException ex) {
+            return false;
+        }
+    }
+}
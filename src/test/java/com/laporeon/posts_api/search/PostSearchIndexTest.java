@@ -0,0 +1,108 @@
+package com.laporeon.posts_api.search;
+
+import com.laporeon.posts_api.config.BackgroundThreads;
+import com.laporeon.posts_api.config.SearchProperties;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.repositories.PostRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PostSearchIndex Tests")
+class PostSearchIndexTest {
+
+    private PostRepository postRepository;
+
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        postSearchIndex = new PostSearchIndex(new SearchProperties(true), postRepository, new BackgroundThreads(new MockEnvironment()));
+    }
+
+    @Test
+    @DisplayName("Should rank title matches above description and body matches")
+    void shouldRankTitleMatchesAboveDescriptionAndBodyMatches() {
+        Post inBody = newPost("Building APIs", "A short guide for developers", "Spring Boot makes APIs easy.");
+        Post inTitle = newPost("Spring Boot basics", "A short guide for developers", "Nothing else here.");
+        Post inDescription = newPost("Building APIs", "Using Spring with Mongo", "Nothing else here.");
+
+        when(postRepository.streamAllBy()).thenReturn(Stream.of(inBody, inTitle, inDescription));
+        postSearchIndex.rebuild();
+
+        Slice<Post> result = postSearchIndex.search("spring", PageRequest.of(0, 10));
+
+        assertThat(postSearchIndex.isReady()).isTrue();
+        assertThat(result.getContent()).containsExactly(inTitle, inDescription, inBody);
+    }
+
+    @Test
+    @DisplayName("Should keep the index in sync with post changes")
+    void shouldKeepIndexInSyncWithPostChanges() {
+        Post post = newPost("Spring Boot basics", "A short guide for developers", "Nothing else here.");
+
+        postSearchIndex.onPostChanged(PostChangedEvent.created(post));
+        assertThat(postSearchIndex.search("spring", PageRequest.of(0, 10)).getContent()).containsExactly(post);
+
+        Post updated = post.toBuilder().title("Quarkus basics").build();
+        postSearchIndex.onPostChanged(PostChangedEvent.updated(updated));
+        assertThat(postSearchIndex.search("spring", PageRequest.of(0, 10)).getContent()).isEmpty();
+        assertThat(postSearchIndex.search("QUARKUS", PageRequest.of(0, 10)).getContent()).containsExactly(updated);
+
+        postSearchIndex.onPostChanged(PostChangedEvent.deleted(post.getId()));
+        assertThat(postSearchIndex.search("quarkus", PageRequest.of(0, 10)).getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should paginate results and report whether more follow")
+    void shouldPaginateResultsAndReportWhetherMoreFollow() {
+        for (int i = 0; i < 3; i++) {
+            postSearchIndex.onPostChanged(PostChangedEvent.created(
+                    newPost("Spring post " + i, "A short guide for developers", "Nothing else here.")));
+        }
+
+        Slice<Post> first = postSearchIndex.search("spring", PageRequest.of(0, 2));
+        Slice<Post> second = postSearchIndex.search("spring", PageRequest.of(1, 2));
+
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not resurrect posts changed while the index is rebuilt")
+    void shouldNotResurrectPostsChangedWhileIndexIsRebuilt() {
+        Post post = newPost("Spring Boot basics", "A short guide for developers", "Nothing else here.");
+
+        when(postRepository.streamAllBy()).thenReturn(Stream.of(post).peek(
+                stale -> postSearchIndex.onPostChanged(PostChangedEvent.deleted(stale.getId()))));
+        postSearchIndex.rebuild();
+
+        assertThat(postSearchIndex.search("spring", PageRequest.of(0, 10)).getContent()).isEmpty();
+    }
+
+    private Post newPost(String title, String description, String body) {
+        return Post.builder()
+                   .id(new ObjectId().toHexString())
+                   .title(title)
+                   .description(description)
+                   .body(body)
+                   .createdAt(Instant.now())
+                   .updatedAt(Instant.now())
+                   .build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.laporeon.posts_api.services;
+
+import com.laporeon.posts_api.cache.AuthorPostCache;
+import com.laporeon.posts_api.config.AuthorProperties;
+import com.laporeon.posts_api.config.ChangeFeedProperties;
+import com.laporeon.posts_api.dto.response.CursorPageResponseDTO;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.exceptions.InvalidCursorException;
+import com.laporeon.posts_api.mappers.PageMapper;
+import com.laporeon.posts_api.mappers.PostMapper;
+import com.laporeon.posts_api.repositories.InMemoryPostRepository;
+import com.laporeon.posts_api.utils.PostCursor;
+import com.laporeon.posts_api.utils.PostSortField;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PostAuthorService Tests")
+class PostAuthorServiceTest {
+
+    private static final ChangeFeedProperties CHANGE_FEED_PROPERTIES =
+            new ChangeFeedProperties(Duration.ofDays(30), Duration.ofSeconds(1), 100, 1000);
+
+    private static final Instant BASE = Instant.parse("2025-10-01T00:00:00Z");
+
+    private static final int PAGE_SIZE = 2;
+
+    private static final PostCursor NEWEST_FIRST = PostCursor.first(PostSortField.CREATED_AT, Sort.Direction.DESC);
+
+    private InMemoryPostRepository postRepository;
+
+    private AuthorPostCache authorPostCache;
+
+    private MeterRegistry meterRegistry;
+
+    private PostAuthorService postAuthorService;
+
+    private int created;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = new InMemoryPostRepository(CHANGE_FEED_PROPERTIES);
+        meterRegistry = new SimpleMeterRegistry();
+        authorPostCache = new AuthorPostCache(new AuthorProperties(true, 100, PAGE_SIZE, Duration.ofMinutes(1), Duration.ofMinutes(1)), meterRegistry);
+        postAuthorService = new PostAuthorService(postRepository, new PageMapper(new PostMapper()), authorPostCache);
+    }
+
+    @Test
+    @DisplayName("Should page through an author's posts newest first and skip other authors")
+    void shouldPageThroughAuthorsPostsNewestFirst() {
+        Post oldest = create("laporeon");
+        create("someone-else");
+        Post middle = create("laporeon");
+        Post newest = create("laporeon");
+
+        CursorPageResponseDTO<PostResponseDTO> first = postAuthorService.listPosts("laporeon", NEWEST_FIRST, PAGE_SIZE);
+        CursorPageResponseDTO<PostResponseDTO> second = postAuthorService.listPosts("laporeon", PostCursor.decode(first.nextCursor()), PAGE_SIZE);
+
+        assertThat(first.content()).extracting(PostResponseDTO::id).containsExactly(newest.getId(), middle.getId());
+        assertThat(second.content()).extracting(PostResponseDTO::id).containsExactly(oldest.getId());
+        assertThat(second.hasNext()).isFalse();
+        assertThat(postAuthorService.findAuthor("laporeon").numberOfPosts()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should keep an author's cached first page and count when only other authors write")
+    void shouldKeepAuthorsCacheWhenOnlyOtherAuthorsWrite() {
+        create("laporeon");
+        postAuthorService.listPosts("laporeon", NEWEST_FIRST, PAGE_SIZE);
+        postAuthorService.findAuthor("laporeon");
+
+        create("someone-else");
+        postAuthorService.listPosts("laporeon", NEWEST_FIRST, PAGE_SIZE);
+        assertThat(meterRegistry.get("posts.author.pages").tag("outcome", "hit").counter().count()).isEqualTo(1);
+
+        Post latest = create("laporeon");
+        CursorPageResponseDTO<PostResponseDTO> refreshed = postAuthorService.listPosts("laporeon", NEWEST_FIRST, PAGE_SIZE);
+        assertThat(refreshed.content().getFirst().id()).isEqualTo(latest.getId());
+        assertThat(postAuthorService.findAuthor("laporeon").numberOfPosts()).isEqualTo(2);
+
+        Post removed = postRepository.removeById(latest.getId()).orElseThrow();
+        authorPostCache.onPostChanged(PostChangedEvent.deleted(removed));
+        assertThat(postAuthorService.listPosts("laporeon", NEWEST_FIRST, PAGE_SIZE).content()).hasSize(1);
+        assertThat(postAuthorService.findAuthor("laporeon").numberOfPosts()).isEqualTo(1);
+        assertThat(meterRegistry.get("posts.author.pages").tag("outcome", "miss").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should not cache a first page or count loaded while a write for the author was published")
+    void shouldNotCacheFirstPageOrCountLoadedWhileWriteWasPublished() {
+        create("laporeon");
+
+        CursorPageResponseDTO<PostResponseDTO> stale = authorPostCache.firstPage("laporeon", Sort.Direction.DESC, PAGE_SIZE, () -> {
+            CursorPageResponseDTO<PostResponseDTO> loaded = postAuthorService.listPosts("laporeon", NEWEST_FIRST, PAGE_SIZE + 1);
+            create("laporeon");
+            return loaded;
+        });
+        long staleCount = authorPostCache.count("laporeon", () -> {
+            long loaded = postRepository.countByAuthor("laporeon");
+            create("laporeon");
+            return loaded;
+        });
+
+        assertThat(stale.content()).hasSize(1);
+        assertThat(staleCount).isEqualTo(2);
+        assertThat(postAuthorService.listPosts("laporeon", NEWEST_FIRST, PAGE_SIZE).content()).hasSize(PAGE_SIZE);
+        assertThat(postAuthorService.findAuthor("laporeon").numberOfPosts()).isEqualTo(3);
+        assertThat(meterRegistry.get("posts.author.pages").tag("outcome", "hit").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reload an author's cached first page once it is older than the page ttl")
+    void shouldReloadAuthorsFirstPageOnceOlderThanPageTtl() {
+        authorPostCache = new AuthorPostCache(new AuthorProperties(true, 100, PAGE_SIZE, Duration.ofMinutes(1), Duration.ZERO), meterRegistry);
+        postAuthorService = new PostAuthorService(postRepository, new PageMapper(new PostMapper()), authorPostCache);
+        create("laporeon");
+        postAuthorService.listPosts("laporeon", NEWEST_FIRST, PAGE_SIZE);
+
+        Post writtenElsewhere = postRepository.insert(Post.builder()
+                                                          .id(new ObjectId().toHexString())
+                                                          .title("Post written by another instance")
+                                                          .author("laporeon")
+                                                          .createdAt(BASE.plusSeconds(60))
+                                                          .updatedAt(BASE.plusSeconds(60))
+                                                          .build());
+
+        assertThat(postAuthorService.listPosts("laporeon", NEWEST_FIRST, PAGE_SIZE).content().getFirst().id())
+                .isEqualTo(writtenElsewhere.getId());
+    }
+
+    @Test
+    @DisplayName("Should reject cursors that are not ordered by creation time")
+    void shouldRejectCursorsNotOrderedByCreationTime() {
+        PostCursor byTitle = PostCursor.first(PostSortField.TITLE, Sort.Direction.ASC);
+
+        assertThatThrownBy(() -> postAuthorService.listPosts("laporeon", byTitle, PAGE_SIZE))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private Post create(String author) {
+        Instant at = BASE.plusSeconds(created++);
+        Post post = postRepository.insert(Post.builder()
+                                              .id(new ObjectId().toHexString())
+                                              .title("Post number " + created)
+                                              .author(author)
+                                              .createdAt(at)
+                                              .updatedAt(at)
+                                              .build());
+        authorPostCache.onPostChanged(PostChangedEvent.created(post));
+        return post;
+    }
+}
@@ -0,0 +1,159 @@
+package com.laporeon.posts_api.services;
+
+import com.laporeon.posts_api.dto.request.BulkOperationDTO;
+import com.laporeon.posts_api.dto.request.BulkRequestDTO;
+import com.laporeon.posts_api.dto.request.PostRequestDTO;
+import com.laporeon.posts_api.dto.response.BulkResponseDTO;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.mappers.PostMapper;
+import com.laporeon.posts_api.repositories.PostRepository;
+import com.laporeon.posts_api.repositories.PostWrite;
+import com.laporeon.posts_api.repositories.PostWriteResult;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostBulkService Tests")
+class PostBulkServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PostBulkService postBulkService;
+
+    private static final String VALID_TITLE = "Getting Started with Spring Boot";
+    private static final String VALID_DESCRIPTION = "A comprehensive guide to building REST APIs with Spring Boot framework.";
+    private static final String VALID_BODY = "Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.";
+    private static final String VALID_AUTHOR = "laporeon";
+
+    private Post existingPost;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        postBulkService = new PostBulkService(postRepository, new PostMapper(), validator, eventPublisher);
+
+        Instant createdAt = Instant.now().minus(1, ChronoUnit.DAYS);
+        existingPost = Post.builder()
+                           .id(new ObjectId().toString())
+                           .title(VALID_TITLE)
+                           .description(VALID_DESCRIPTION)
+                           .body(VALID_BODY)
+                           .author(VALID_AUTHOR)
+                           .createdAt(createdAt)
+                           .updatedAt(createdAt)
+                           .build();
+    }
+
+    @Test
+    @DisplayName("Should send valid operations as one bulk write and report each outcome in order")
+    void shouldSendValidOperationsAsOneBulkWrite() {
+        String missingId = new ObjectId().toString();
+        PostRequestDTO validPost = new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, VALID_AUTHOR);
+        BulkRequestDTO request = new BulkRequestDTO(List.of(
+                new BulkOperationDTO(BulkOperationDTO.Action.CREATE, null, validPost),
+                new BulkOperationDTO(BulkOperationDTO.Action.UPDATE, existingPost.getId(), validPost),
+                new BulkOperationDTO(BulkOperationDTO.Action.DELETE, missingId, null),
+                new BulkOperationDTO(BulkOperationDTO.Action.CREATE, null, new PostRequestDTO("tit", VALID_DESCRIPTION, VALID_BODY, null))
+        ));
+
+        when(postRepository.findAllById(anyList())).thenReturn(List.of(existingPost));
+        when(postRepository.bulkWrite(anyList())).thenReturn(PostWriteResult.of(Map.of()));
+
+        BulkResponseDTO response = postBulkService.bulk(request);
+
+        assertThat(response.errors()).isTrue();
+        assertThat(response.items()).extracting("status").containsExactly(201, 200, 404, 400);
+        assertThat(response.items().get(1).id()).isEqualTo(existingPost.getId());
+        assertThat(response.items().get(3).error()).isEqualTo("Title must be between 10 and 100 characters long.");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PostWrite>> writes = ArgumentCaptor.forClass(List.class);
+        verify(postRepository, times(1)).bulkWrite(writes.capture());
+        assertThat(writes.getValue()).extracting(PostWrite::type)
+                                     .containsExactly(PostWrite.Type.INSERT, PostWrite.Type.UPDATE);
+        assertThat(writes.getValue().get(0).post().getCreatedAt()).isNotNull();
+        verify(eventPublisher, times(2)).publishEvent(any(PostChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should report write errors against the operation that caused them")
+    void shouldReportWriteErrorsAgainstTheOperationThatCausedThem() {
+        BulkRequestDTO request = new BulkRequestDTO(List.of(
+                new BulkOperationDTO(BulkOperationDTO.Action.DELETE, existingPost.getId(), null)
+        ));
+
+        when(postRepository.findAllById(anyList())).thenReturn(List.of(existingPost));
+        when(postRepository.bulkWrite(anyList())).thenReturn(PostWriteResult.of(Map.of(0, "E11000 duplicate key error collection: posts.posts")));
+
+        BulkResponseDTO response = postBulkService.bulk(request);
+
+        assertThat(response.errors()).isTrue();
+        assertThat(response.items().get(0).status()).isEqualTo(500);
+        assertThat(response.items().get(0).error()).isEqualTo("An unexpected error occurred");
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should report 404 without publishing events for posts deleted before the write applied")
+    void shouldReport404ForPostsDeletedBeforeTheWriteApplied() {
+        PostRequestDTO validPost = new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, VALID_AUTHOR);
+        BulkRequestDTO request = new BulkRequestDTO(List.of(
+                new BulkOperationDTO(BulkOperationDTO.Action.UPDATE, existingPost.getId(), validPost),
+                new BulkOperationDTO(BulkOperationDTO.Action.DELETE, existingPost.getId(), null)
+        ));
+
+        when(postRepository.findAllById(anyList())).thenReturn(List.of(existingPost));
+        when(postRepository.bulkWrite(anyList())).thenReturn(new PostWriteResult(Map.of(), Set.of(0, 1), Set.of()));
+
+        BulkResponseDTO response = postBulkService.bulk(request);
+
+        assertThat(response.errors()).isTrue();
+        assertThat(response.items()).extracting("status").containsExactly(404, 404);
+        assertThat(response.items().get(0).error()).isEqualTo("Post with id %s not found.".formatted(existingPost.getId()));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should reject updates that change the author of a post with 400")
+    void shouldRejectUpdatesThatChangeTheAuthor() {
+        PostRequestDTO otherAuthor = new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, "someone-else");
+        BulkRequestDTO request = new BulkRequestDTO(List.of(
+                new BulkOperationDTO(BulkOperationDTO.Action.UPDATE, existingPost.getId(), otherAuthor)
+        ));
+
+        when(postRepository.findAllById(anyList())).thenReturn(List.of(existingPost));
+        when(postRepository.bulkWrite(anyList())).thenReturn(PostWriteResult.of(Map.of()));
+
+        BulkResponseDTO response = postBulkService.bulk(request);
+
+        assertThat(response.items()).extracting("status").containsExactly(400);
+        assertThat(response.items().get(0).error()).isEqualTo("Author of post %s cannot be changed.".formatted(existingPost.getId()));
+        verify(postRepository).bulkWrite(List.of());
+        verifyNoInteractions(eventPublisher);
+    }
+}
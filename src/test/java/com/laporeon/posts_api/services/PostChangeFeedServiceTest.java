@@ -0,0 +1,119 @@
+package com.laporeon.posts_api.services;
+
+import com.laporeon.posts_api.config.ChangeFeedProperties;
+import com.laporeon.posts_api.dto.response.ChangeFeedResponseDTO;
+import com.laporeon.posts_api.dto.response.PostChangeDTO;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.exceptions.ChangeTokenExpiredException;
+import com.laporeon.posts_api.exceptions.InvalidCursorException;
+import com.laporeon.posts_api.mappers.PostMapper;
+import com.laporeon.posts_api.repositories.InMemoryPostRepository;
+import com.laporeon.posts_api.utils.ChangeToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PostChangeFeedService Tests")
+class PostChangeFeedServiceTest {
+
+    private static final ChangeFeedProperties CHANGE_FEED_PROPERTIES =
+            new ChangeFeedProperties(Duration.ofDays(30), Duration.ofSeconds(1), 100, 1000);
+
+    private InMemoryPostRepository postRepository;
+
+    private PostChangeFeedService postChangeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = new InMemoryPostRepository(CHANGE_FEED_PROPERTIES);
+        postChangeFeedService = service(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Should page through upserts and tombstones in change order and resume from the token")
+    void shouldPageThroughUpsertsAndTombstonesInChangeOrder() throws InterruptedException {
+        Post kept = postRepository.save(post("Kept"));
+        Post updated = postRepository.save(post("Updated"));
+        Post deleted = postRepository.save(post("Deleted"));
+        settle();
+        postRepository.removeById(deleted.getId());
+        settle();
+        postRepository.updateContent(post("Renamed").toBuilder().id(updated.getId()).updatedAt(Instant.now()).build());
+        settle();
+
+        List<PostChangeDTO> changes = new ArrayList<>();
+        String token = null;
+        ChangeFeedResponseDTO page;
+        do {
+            page = postChangeFeedService.changesSince(token, 2);
+            changes.addAll(page.changes());
+            token = page.nextToken();
+        } while (page.hasMore());
+
+        assertThat(changes).extracting(PostChangeDTO::id)
+                           .containsExactly(kept.getId(), deleted.getId(), updated.getId());
+        assertThat(changes).extracting(PostChangeDTO::type)
+                           .containsExactly(PostChangeDTO.Type.UPSERTED, PostChangeDTO.Type.DELETED, PostChangeDTO.Type.UPSERTED);
+        assertThat(changes.get(1).post()).isNull();
+        assertThat(changes.get(2).post().title()).isEqualTo("Renamed");
+
+        ChangeFeedResponseDTO unchanged = postChangeFeedService.changesSince(token, 2);
+        assertThat(unchanged.changes()).isEmpty();
+        assertThat(unchanged.nextToken()).isEqualTo(token);
+
+        Post created = postRepository.save(post("Created"));
+        settle();
+        assertThat(postChangeFeedService.changesSince(token, 2).changes()).extracting(PostChangeDTO::id)
+                                                                         .containsExactly(created.getId());
+    }
+
+    @Test
+    @DisplayName("Should hold back changes younger than the settle time")
+    void shouldHoldBackChangesYoungerThanSettleTime() {
+        postChangeFeedService = service(Duration.ofMinutes(1));
+        postRepository.save(post("Fresh"));
+
+        ChangeFeedResponseDTO page = postChangeFeedService.changesSince(null, 10);
+
+        assertThat(page.changes()).isEmpty();
+        assertThat(page.nextToken()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject tokens older than the deletion history and malformed tokens")
+    void shouldRejectExpiredAndMalformedTokens() {
+        String expired = ChangeToken.after(Instant.now().minus(Duration.ofDays(31)), "68e0124a70424186e056e45d").encode();
+
+        assertThatThrownBy(() -> postChangeFeedService.changesSince(expired, 10))
+                .isInstanceOf(ChangeTokenExpiredException.class);
+        assertThatThrownBy(() -> postChangeFeedService.changesSince("not-a-token", 10))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private PostChangeFeedService service(Duration settleTime) {
+        return new PostChangeFeedService(
+                postRepository,
+                new PostMapper(),
+                new ChangeFeedProperties(Duration.ofDays(30), settleTime, 100, 1000));
+    }
+
+    private Post post(String title) {
+        return Post.builder()
+                   .title(title)
+                   .description("A comprehensive guide to building REST APIs with Spring Boot framework.")
+                   .body("Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.")
+                   .build();
+    }
+
+    private void settle() throws InterruptedException {
+        Thread.sleep(2);
+    }
+}
@@ -0,0 +1,93 @@
+package com.laporeon.posts_api.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.laporeon.posts_api.config.ExportProperties;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.mappers.PostMapper;
+import com.laporeon.posts_api.repositories.PostRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PostExportService Tests")
+class PostExportServiceTest {
+
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private PostRepository postRepository;
+
+    private PostExportService postExportService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        postExportService = new PostExportService(
+                postRepository,
+                new PostMapper(),
+                objectMapper,
+                new ExportProperties(DEFAULT_BATCH_SIZE));
+    }
+
+    @Test
+    @DisplayName("Should write one JSON document per line")
+    void shouldWriteOneJsonDocumentPerLine() throws Exception {
+        Post first = newPost("Getting Started with Spring Boot");
+        Post second = newPost("Understanding MongoDB Indexes");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        when(postRepository.streamUpdatedSince(null, DEFAULT_BATCH_SIZE)).thenReturn(Stream.of(first, second));
+
+        long exported = postExportService.export(null, null, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertThat(exported).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[2]).isEmpty();
+        assertThat(objectMapper.readValue(lines[0], PostResponseDTO.class).id()).isEqualTo(first.getId());
+        assertThat(objectMapper.readValue(lines[1], PostResponseDTO.class).title()).isEqualTo(second.getTitle());
+    }
+
+    @Test
+    @DisplayName("Should pass filter and batch size to the cursor and close it")
+    void shouldPassFilterAndBatchSizeToCursorAndCloseIt() throws Exception {
+        Instant updatedSince = Instant.parse("2025-10-01T00:00:00Z");
+        AtomicBoolean closed = new AtomicBoolean();
+
+        when(postRepository.streamUpdatedSince(updatedSince, 2))
+                .thenReturn(Stream.of(newPost("Getting Started with Spring Boot")).onClose(() -> closed.set(true)));
+
+        long exported = postExportService.export(updatedSince, 2, new ByteArrayOutputStream());
+
+        assertThat(exported).isEqualTo(1);
+        assertThat(closed).isTrue();
+    }
+
+    private Post newPost(String title) {
+        return Post.builder()
+                   .id(new ObjectId().toHexString())
+                   .title(title)
+                   .description("A comprehensive guide to building REST APIs with Spring Boot framework.")
+                   .body("Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.")
+                   .createdAt(Instant.now())
+                   .updatedAt(Instant.now())
+                   .build();
+    }
+}
@@ -0,0 +1,145 @@
+package com.laporeon.posts_api.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.laporeon.posts_api.config.ImportProperties;
+import com.laporeon.posts_api.dto.request.PostRequestDTO;
+import com.laporeon.posts_api.dto.response.ImportLineErrorDTO;
+import com.laporeon.posts_api.dto.response.ImportResponseDTO;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.mappers.PostMapper;
+import com.laporeon.posts_api.repositories.PostRepository;
+import com.laporeon.posts_api.repositories.PostWrite;
+import com.laporeon.posts_api.repositories.PostWriteResult;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostImportService Tests")
+class PostImportServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PostImportService postImportService;
+
+    private static final String VALID_TITLE = "Getting Started with Spring Boot";
+    private static final String VALID_DESCRIPTION = "A comprehensive guide to building REST APIs with Spring Boot framework.";
+    private static final String VALID_BODY = "Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.";
+    private static final String VALID_AUTHOR = "laporeon";
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        postImportService = new PostImportService(
+                postRepository,
+                new PostMapper(),
+                objectMapper,
+                validator,
+                new VirtualThreadTaskExecutor("post-import-"),
+                eventPublisher,
+                new ImportProperties(2, 1, 10));
+    }
+
+    @Test
+    @DisplayName("Should insert valid lines in batches and report invalid lines by number")
+    void shouldInsertValidLinesInBatchesAndReportInvalidLines() throws Exception {
+        String body = String.join("\n",
+                validLine(),
+                "{not json",
+                validLine(),
+                "",
+                objectMapper.writeValueAsString(new PostRequestDTO("tit", VALID_DESCRIPTION, VALID_BODY, null)),
+                validLine(),
+                validLine());
+
+        when(postRepository.bulkWrite(anyList())).thenReturn(PostWriteResult.of(Map.of())).thenReturn(PostWriteResult.of(Map.of(0, "E11000 duplicate key error")));
+
+        ImportResponseDTO response = postImportService.importPosts(stream(body));
+
+        assertThat(response.received()).isEqualTo(6);
+        assertThat(response.imported()).isEqualTo(3);
+        assertThat(response.failed()).isEqualTo(3);
+        assertThat(response.errors()).extracting(ImportLineErrorDTO::line).containsExactly(2L, 5L, 6L);
+        assertThat(response.errors().get(1).error()).isEqualTo("Title must be between 10 and 100 characters long.");
+        assertThat(response.errors().get(2).error()).isEqualTo("An unexpected error occurred");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PostWrite>> batches = ArgumentCaptor.forClass(List.class);
+        verify(postRepository, times(2)).bulkWrite(batches.capture());
+        assertThat(batches.getAllValues()).allSatisfy(batch -> {
+            assertThat(batch).hasSize(2);
+            assertThat(batch).allSatisfy(write -> {
+                assertThat(write.type()).isEqualTo(PostWrite.Type.INSERT);
+                assertThat(write.post().getId()).isNotNull();
+                assertThat(write.post().getCreatedAt()).isNotNull();
+            });
+        });
+        verify(eventPublisher, times(3)).publishEvent(any(PostChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should cap the number of reported errors but count every failure")
+    void shouldCapReportedErrorsButCountEveryFailure() throws Exception {
+        String body = String.join("\n", Collections.nCopies(15, "{not json"));
+
+        ImportResponseDTO response = postImportService.importPosts(stream(body));
+
+        assertThat(response.failed()).isEqualTo(15);
+        assertThat(response.errors()).hasSize(10);
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("Should report every line of a batch whose write failed and keep importing the rest")
+    void shouldReportLinesOfFailedBatchAndKeepImportingTheRest() throws Exception {
+        String body = String.join("\n", validLine(), validLine(), validLine(), validLine(), validLine());
+
+        when(postRepository.bulkWrite(anyList()))
+                .thenReturn(PostWriteResult.of(Map.of()))
+                .thenThrow(new DataAccessResourceFailureException("connection reset"))
+                .thenReturn(PostWriteResult.of(Map.of()));
+
+        ImportResponseDTO response = postImportService.importPosts(stream(body));
+
+        assertThat(response.received()).isEqualTo(5);
+        assertThat(response.imported()).isEqualTo(3);
+        assertThat(response.failed()).isEqualTo(2);
+        assertThat(response.errors()).extracting(ImportLineErrorDTO::line).containsExactly(3L, 4L);
+        assertThat(response.errors()).extracting(ImportLineErrorDTO::error).containsOnly("An unexpected error occurred");
+        verify(eventPublisher, times(3)).publishEvent(any(PostChangedEvent.class));
+    }
+
+    private String validLine() throws Exception {
+        return objectMapper.writeValueAsString(new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, VALID_AUTHOR));
+    }
+
+    private ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
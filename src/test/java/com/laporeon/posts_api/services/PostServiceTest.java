@@ -1,13 +1,30 @@
 package com.laporeon.posts_api.services;
 
+import com.laporeon.posts_api.cache.HotPageStore;
+import com.laporeon.posts_api.cache.PostCache;
+import com.laporeon.posts_api.cache.PostLookupFilter;
+import com.laporeon.posts_api.cache.PostReadCoalescer;
 import com.laporeon.posts_api.dto.request.PostRequestDTO;
+import com.laporeon.posts_api.dto.response.CursorPageResponseDTO;
+import com.laporeon.posts_api.dto.response.MultiGetItemDTO;
+import com.laporeon.posts_api.dto.response.MultiGetResponseDTO;
 import com.laporeon.posts_api.dto.response.PageResponseDTO;
 import com.laporeon.posts_api.dto.response.PostResponseDTO;
 import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.exceptions.AuthorChangeNotAllowedException;
+import com.laporeon.posts_api.exceptions.InvalidSearchQueryException;
 import com.laporeon.posts_api.exceptions.PostNotFoundException;
 import com.laporeon.posts_api.mappers.PageMapper;
 import com.laporeon.posts_api.mappers.PostMapper;
 import com.laporeon.posts_api.repositories.PostRepository;
+import com.laporeon.posts_api.repositories.PostVersion;
+import com.laporeon.posts_api.search.PostSearchIndex;
+import com.laporeon.posts_api.utils.CountMode;
+import com.laporeon.posts_api.utils.PostCursor;
+import com.laporeon.posts_api.utils.PostETags;
+import com.laporeon.posts_api.utils.PostSortField;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,20 +32,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,12 +69,34 @@ public class PostServiceTest {
     @Mock
     private PageMapper pageMapper;
 
+    @Mock
+    private PostCounter postCounter;
+
+    @Mock
+    private PostCache postCache;
+
+    @Spy
+    private PostReadCoalescer postReadCoalescer = new PostReadCoalescer(new SimpleMeterRegistry());
+
+    @Mock
+    private HotPageStore hotPageStore;
+
+    @Mock
+    private PostLookupFilter postLookupFilter;
+
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PostService postService;
 
     private static final String VALID_TITLE = "Getting Started with Spring Boot";
     private static final String VALID_DESCRIPTION = "A comprehensive guide to building REST APIs with Spring Boot framework.";
     private static final String VALID_BODY = "Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.";
+    private static final String VALID_AUTHOR = "laporeon";
     private static final int DEFAULT_PAGE = 0;
     private static final int DEFAULT_SIZE = 10;
 
@@ -68,6 +115,7 @@ public class PostServiceTest {
                                .title(VALID_TITLE)
                                .description(VALID_DESCRIPTION)
                                .body(VALID_BODY)
+                               .author(VALID_AUTHOR)
                                .createdAt(createdAt)
                                .updatedAt(updatedAt)
                                .build();
@@ -77,6 +125,7 @@ public class PostServiceTest {
                 mockedPostEntity.getTitle(),
                 mockedPostEntity.getDescription(),
                 mockedPostEntity.getBody(),
+                mockedPostEntity.getAuthor(),
                 mockedPostEntity.getCreatedAt(),
                 mockedPostEntity.getUpdatedAt()
         );
@@ -85,7 +134,7 @@ public class PostServiceTest {
     @Test
     @DisplayName("Should save Post successfully when given valid request data")
     void shouldSavePostSuccessfullyWhenGivenRequestData() {
-        PostRequestDTO requestDTO = new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY);
+        PostRequestDTO requestDTO = new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, VALID_AUTHOR);
 
         when(postMapper.toEntity(any(PostRequestDTO.class))).thenReturn(mockedPostEntity);
         when(postRepository.save(any(Post.class))).thenReturn(mockedPostEntity);
@@ -98,6 +147,7 @@ public class PostServiceTest {
         assertThat(response.createdAt()).isNotNull();
 
         verify(postRepository, times(1)).save(any(Post.class));
+        verify(eventPublisher, times(1)).publishEvent(PostChangedEvent.created(mockedPostEntity));
     }
 
     @Test
@@ -126,15 +176,16 @@ public class PostServiceTest {
                 expectedPage.hasNext()
         );
 
-        when(postRepository.findAll(pageable)).thenReturn(expectedPage);
+        when(postCounter.exactAsync()).thenReturn(CompletableFuture.completedFuture(1L));
+        when(postRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(mockedPostsList, pageable, false));
         when(pageMapper.toDTO(any(Page.class))).thenReturn(mockedPageResponse);
 
-        PageResponseDTO<PostResponseDTO> result = postService.listPosts(pageable);
+        PageResponseDTO<PostResponseDTO> result = postService.listPosts(pageable, CountMode.EXACT);
 
         assertThat(result.totalElements()).isEqualTo(1);
         assertThat(result.content()).hasSize(1);
 
-        verify(postRepository, times(1)).findAll(pageable);
+        verify(postRepository, times(1)).findAllBy(pageable);
     }
 
     @Test
@@ -156,16 +207,144 @@ public class PostServiceTest {
                 emptyPage.hasNext()
         );
 
-        when(postRepository.findAll(pageable)).thenReturn(emptyPage);
+        when(postCounter.exactAsync()).thenReturn(CompletableFuture.completedFuture(0L));
+        when(postRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
         when(pageMapper.toDTO(any(Page.class))).thenReturn(emptyResponse);
 
-        PageResponseDTO<PostResponseDTO> result = postService.listPosts(pageable);
+        PageResponseDTO<PostResponseDTO> result = postService.listPosts(pageable, CountMode.EXACT);
 
         assertThat(result.content()).isEmpty();
         assertThat(result.totalElements()).isZero();
         assertThat(result.isEmpty()).isTrue();
 
-        verify(postRepository, times(1)).findAll(pageable);
+        verify(postRepository, times(1)).findAllBy(pageable);
+    }
+
+    @Test
+    @DisplayName("Should return slice without counting when count mode is none")
+    void shouldReturnSliceWithoutCountingWhenCountModeIsNone() {
+        Pageable pageable = PageRequest.of(DEFAULT_PAGE, DEFAULT_SIZE);
+        Slice<Post> slice = new SliceImpl<>(List.of(mockedPostEntity), pageable, true);
+        PageResponseDTO<PostResponseDTO> sliceResponse = new PageResponseDTO<>(
+                List.of(mockedPostResponse), DEFAULT_PAGE, DEFAULT_SIZE, null, null, 1,
+                true, false, false, false, true);
+
+        when(postRepository.findAllBy(pageable)).thenReturn(slice);
+        when(pageMapper.toDTO(slice)).thenReturn(sliceResponse);
+
+        PageResponseDTO<PostResponseDTO> result = postService.listPosts(pageable, CountMode.NONE);
+
+        assertThat(result.totalElements()).isNull();
+        assertThat(result.isLastPage()).isFalse();
+
+        verify(postRepository, never()).count();
+        verifyNoInteractions(postCounter);
+    }
+
+    @Test
+    @DisplayName("Should use estimated total when more pages follow and count mode is estimated")
+    void shouldUseEstimatedTotalWhenMorePagesFollow() {
+        Pageable pageable = PageRequest.of(DEFAULT_PAGE, 1);
+        Slice<Post> slice = new SliceImpl<>(List.of(mockedPostEntity), pageable, true);
+
+        when(postRepository.findAllBy(pageable)).thenReturn(slice);
+        when(postCounter.estimated()).thenReturn(42L);
+
+        postService.listPosts(pageable, CountMode.ESTIMATED);
+
+        verify(pageMapper).toDTO(argThat((Page<Post> page) -> page.getTotalElements() == 42L));
+        verify(postRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Should serve hot page without querying the repository")
+    void shouldServeHotPageWithoutQueryingRepository() {
+        Pageable pageable = PageRequest.of(DEFAULT_PAGE, DEFAULT_SIZE, PostSortField.TITLE.sort(Sort.Direction.ASC));
+        PageResponseDTO<PostResponseDTO> hotPage = new PageResponseDTO<>(
+                List.of(mockedPostResponse), DEFAULT_PAGE, DEFAULT_SIZE, null, null, 1, true, false, false, true, false);
+
+        when(hotPageStore.find(pageable)).thenReturn(hotPage);
+
+        PageResponseDTO<PostResponseDTO> sut = postService.listPosts(pageable, CountMode.NONE);
+
+        assertThat(sut).isSameAs(hotPage);
+        verifyNoInteractions(postRepository, pageMapper, postCounter);
+    }
+
+    @Test
+    @DisplayName("Should add estimated total to hot page when count mode is estimated")
+    void shouldAddEstimatedTotalToHotPage() {
+        Pageable pageable = PageRequest.of(DEFAULT_PAGE, DEFAULT_SIZE, PostSortField.TITLE.sort(Sort.Direction.ASC));
+        PageResponseDTO<PostResponseDTO> hotPage = new PageResponseDTO<>(
+                List.of(mockedPostResponse), DEFAULT_PAGE, DEFAULT_SIZE, null, null, 1, true, false, false, true, false);
+
+        when(hotPageStore.find(pageable)).thenReturn(hotPage);
+        when(postCounter.estimated()).thenReturn(42L);
+
+        PageResponseDTO<PostResponseDTO> sut = postService.listPosts(pageable, CountMode.ESTIMATED);
+
+        assertThat(sut.content()).isEqualTo(hotPage.content());
+        assertThat(sut.totalElements()).isEqualTo(42L);
+        assertThat(sut.totalPages()).isEqualTo(5);
+        verifyNoInteractions(postRepository, pageMapper);
+    }
+
+    @Test
+    @DisplayName("Should fetch one extra post to detect the next cursor page")
+    void shouldFetchOneExtraPostToDetectNextCursorPage() {
+        PostCursor cursor = PostCursor.first(PostSortField.TITLE, Sort.Direction.ASC);
+        List<Post> mockedPostsList = List.of(mockedPostEntity);
+        CursorPageResponseDTO<PostResponseDTO> mockedCursorResponse = new CursorPageResponseDTO<>(
+                List.of(mockedPostResponse), DEFAULT_SIZE, 1, null, false);
+
+        when(postRepository.findAfter(cursor, DEFAULT_SIZE + 1)).thenReturn(mockedPostsList);
+        when(pageMapper.toCursorDTO(mockedPostsList, cursor, DEFAULT_SIZE)).thenReturn(mockedCursorResponse);
+
+        CursorPageResponseDTO<PostResponseDTO> result = postService.listPosts(cursor, DEFAULT_SIZE);
+
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isFalse();
+
+        verify(postRepository, times(1)).findAfter(cursor, DEFAULT_SIZE + 1);
+        verify(postRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Should search through MongoDB while the in-memory index is not ready")
+    void shouldSearchThroughMongoWhileInMemoryIndexIsNotReady() {
+        Pageable pageable = PageRequest.of(DEFAULT_PAGE, DEFAULT_SIZE);
+        Slice<Post> mockedSlice = new SliceImpl<>(List.of(mockedPostEntity), pageable, false);
+
+        when(postSearchIndex.isReady()).thenReturn(false);
+        when(postRepository.search("spring", pageable)).thenReturn(mockedSlice);
+
+        postService.search("spring", pageable);
+
+        verify(pageMapper, times(1)).toDTO(mockedSlice);
+        verify(postSearchIndex, never()).search(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should search the in-memory index once it is ready")
+    void shouldSearchInMemoryIndexOnceItIsReady() {
+        Pageable pageable = PageRequest.of(DEFAULT_PAGE, DEFAULT_SIZE);
+        Slice<Post> mockedSlice = new SliceImpl<>(List.of(mockedPostEntity), pageable, false);
+
+        when(postSearchIndex.isReady()).thenReturn(true);
+        when(postSearchIndex.search("spring", pageable)).thenReturn(mockedSlice);
+
+        postService.search("spring", pageable);
+
+        verify(pageMapper, times(1)).toDTO(mockedSlice);
+        verify(postRepository, never()).search(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidSearchQueryException when query is blank")
+    void shouldThrowInvalidSearchQueryExceptionWhenQueryIsBlank() {
+        assertThrows(InvalidSearchQueryException.class, () -> postService.search("  ", PageRequest.of(DEFAULT_PAGE, DEFAULT_SIZE)));
+
+        verifyNoInteractions(postRepository, postSearchIndex);
     }
 
     @Test
@@ -182,6 +361,85 @@ public class PostServiceTest {
         verify(postRepository, times(1)).findById(mockedPostEntity.getId());
     }
 
+    @Test
+    @DisplayName("Should return cached post without querying the repository")
+    void shouldReturnCachedPostWithoutQueryingRepository() {
+        when(postCache.get(mockedPostEntity.getId())).thenReturn(mockedPostResponse);
+
+        PostResponseDTO sut = postService.findById(mockedPostEntity.getId());
+
+        assertThat(sut).isEqualTo(mockedPostResponse);
+
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("Should cache post loaded from the repository")
+    void shouldCachePostLoadedFromRepository() {
+        when(postCache.ticket()).thenReturn(7L);
+        when(postRepository.findById(mockedPostEntity.getId())).thenReturn(Optional.of(mockedPostEntity));
+        when(postMapper.toDTO(any(Post.class))).thenReturn(mockedPostResponse);
+
+        postService.findById(mockedPostEntity.getId());
+
+        verify(postCache, times(1)).put(mockedPostEntity.getId(), mockedPostResponse, 7L);
+    }
+
+    @Test
+    @DisplayName("Should resolve cache misses with one query and keep request order")
+    void shouldResolveCacheMissesWithOneQueryAndKeepRequestOrder() {
+        String cachedId = new ObjectId().toString();
+        String missingId = new ObjectId().toString();
+        PostResponseDTO cachedResponse = new PostResponseDTO(cachedId, VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, VALID_AUTHOR, createdAt, updatedAt);
+
+        when(postCache.get(anyString())).thenReturn(null);
+        when(postCache.get(cachedId)).thenReturn(cachedResponse);
+        when(postCache.ticket()).thenReturn(3L);
+        when(postRepository.findAllById(List.of(missingId, mockedPostEntity.getId()))).thenReturn(List.of(mockedPostEntity));
+        when(postMapper.toDTO(mockedPostEntity)).thenReturn(mockedPostResponse);
+
+        MultiGetResponseDTO sut = postService.findAllById(List.of(missingId, mockedPostEntity.getId(), cachedId, missingId));
+
+        assertThat(sut.found()).isEqualTo(2);
+        assertThat(sut.items()).extracting(MultiGetItemDTO::id)
+                               .containsExactly(missingId, mockedPostEntity.getId(), cachedId, missingId);
+        assertThat(sut.items()).extracting(MultiGetItemDTO::found)
+                               .containsExactly(false, true, true, false);
+        assertThat(sut.items().get(2).post()).isEqualTo(cachedResponse);
+
+        verify(postRepository, times(1)).findAllById(anyList());
+        verify(postCache, times(1)).put(mockedPostEntity.getId(), mockedPostResponse, 3L);
+    }
+
+    @Test
+    @DisplayName("Should derive ETag from projection when post is not cached")
+    void shouldDeriveETagFromProjectionWhenPostIsNotCached() {
+        when(postRepository.findVersionById(mockedPostEntity.getId())).thenReturn(Optional.of(versionOf(mockedPostEntity)));
+
+        String eTag = postService.findETag(mockedPostEntity.getId());
+
+        assertThat(eTag).isEqualTo(PostETags.of(mockedPostEntity.getId(), updatedAt));
+
+        verify(postRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should compute the same page ETag from projection and from response")
+    void shouldComputeSamePageETagFromProjectionAndFromResponse() {
+        Pageable pageable = PageRequest.of(DEFAULT_PAGE, DEFAULT_SIZE);
+        PageResponseDTO<PostResponseDTO> page = new PageResponseDTO<>(
+                List.of(mockedPostResponse), DEFAULT_PAGE, DEFAULT_SIZE, null, null, 1,
+                true, true, false, false, true);
+
+        when(postRepository.findVersionsBy(pageable))
+                .thenReturn(new SliceImpl<>(List.of(versionOf(mockedPostEntity)), pageable, false));
+
+        assertThat(postService.pageETag(pageable, CountMode.NONE)).isEqualTo(postService.pageETag(page));
+
+        verify(postRepository, never()).findAllBy(any());
+        verifyNoInteractions(hotPageStore);
+    }
+
     @Test
     @DisplayName("Should throw PostNotFoundException when id does not exist")
     void shouldThrowPostNotFoundExceptionWhenIdDoesNotExist() {
@@ -192,20 +450,32 @@ public class PostServiceTest {
         assertThrows(PostNotFoundException.class, () -> postService.findById(invalidId));
 
         verify(postRepository, times(1)).findById(invalidId);
+        verify(postLookupFilter).recordFalsePositive();
+    }
+
+    @Test
+    @DisplayName("Should reject ids the lookup filter rules out without touching cache or repository")
+    void shouldRejectIdsRuledOutByLookupFilter() {
+        String unknownId = "68e0234a70424186e056e45f";
+        when(postLookupFilter.isAbsent(unknownId)).thenReturn(true);
+
+        assertThrows(PostNotFoundException.class, () -> postService.findById(unknownId));
+        assertThrows(PostNotFoundException.class, () -> postService.findETag(unknownId));
+        assertThrows(PostNotFoundException.class, () -> postService.delete(unknownId));
+
+        verifyNoInteractions(postCache, postRepository, eventPublisher);
     }
 
 
     @Test
     @DisplayName("Should successfully update post when given existing id and valid request data")
     void shouldUpdatePostWhenGivenExistingIdAndValidRequestData() {
-        PostRequestDTO requestDTO = new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY);
+        PostRequestDTO requestDTO = new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, VALID_AUTHOR);
 
-        when(postRepository.findById(mockedPostEntity.getId())).thenReturn(Optional.of(mockedPostEntity));
-        when(postMapper.updateEntityFromDTO(any(PostRequestDTO.class), any(Post.class))).thenReturn(mockedPostEntity);
+        when(postMapper.updateEntityFromDTO(any(PostRequestDTO.class), any(Post.class)))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        when(postRepository.updateContent(any(Post.class))).thenReturn(Optional.of(mockedPostEntity));
         when(postMapper.toDTO(any(Post.class))).thenReturn(mockedPostResponse);
-        when(postRepository.save(any(Post.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-
 
         PostResponseDTO response = postService.update(mockedPostEntity.getId(), requestDTO);
 
@@ -214,34 +484,54 @@ public class PostServiceTest {
         assertThat(response.createdAt()).isEqualTo(mockedPostResponse.createdAt());
         assertThat(response.updatedAt()).isNotNull();
 
-        verify(postRepository, times(1)).findById(mockedPostEntity.getId());
-        verify(postRepository, times(1)).save(any(Post.class));
+        verify(postRepository, times(1)).updateContent(argThat(changes ->
+                changes.getId().equals(mockedPostEntity.getId()) && changes.getUpdatedAt() != null));
+        verify(postRepository, never()).findById(any());
+        verify(postRepository, never()).save(any(Post.class));
     }
 
     @Test
     @DisplayName("Should throw PostNotFoundException when updating post with non existing id")
     void shouldThrowPostNotFoundExceptionWhenUpdatingPostWithNonExistingId() {
         String invalidId = "68e0234a70424186e056e45f";
-        PostRequestDTO requestDTO = new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY);
+        PostRequestDTO requestDTO = new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, VALID_AUTHOR);
 
-        when(postRepository.findById(invalidId)).thenReturn(Optional.empty());
+        when(postMapper.updateEntityFromDTO(any(PostRequestDTO.class), any(Post.class)))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        when(postRepository.updateContent(any(Post.class))).thenReturn(Optional.empty());
 
         assertThrows(PostNotFoundException.class, () -> postService.update(invalidId, requestDTO));
 
-        verify(postRepository, times(1)).findById(invalidId);
+        verify(postRepository, times(1)).updateContent(any(Post.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should throw AuthorChangeNotAllowedException when an update changes the author of an existing post")
+    void shouldThrowAuthorChangeNotAllowedExceptionWhenUpdateChangesAuthor() {
+        PostRequestDTO requestDTO = new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, "someone-else");
+
+        when(postMapper.updateEntityFromDTO(any(PostRequestDTO.class), any(Post.class)))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        when(postRepository.updateContent(any(Post.class))).thenReturn(Optional.empty());
+        when(postRepository.existsById(mockedPostEntity.getId())).thenReturn(true);
+
+        assertThrows(AuthorChangeNotAllowedException.class, () -> postService.update(mockedPostEntity.getId(), requestDTO));
+
+        verify(postRepository, times(1)).updateContent(argThat(changes -> "someone-else".equals(changes.getAuthor())));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     @DisplayName("Should delete post when given existing id")
     void shouldDeletePostWhenGivenExistingId() {
-        when(postRepository.findById(mockedPostEntity.getId())).thenReturn(Optional.of(mockedPostEntity));
-
-        doNothing().when(postRepository).deleteById(mockedPostEntity.getId());
+        when(postRepository.removeById(mockedPostEntity.getId())).thenReturn(Optional.of(mockedPostEntity));
 
         postService.delete(mockedPostEntity.getId());
 
-        verify(postRepository, times(1)).findById(mockedPostEntity.getId());
-        verify(postRepository, times(1)).deleteById(mockedPostEntity.getId());
+        verify(postRepository, times(1)).removeById(mockedPostEntity.getId());
+        verify(postRepository, never()).findById(any());
+        verify(eventPublisher, times(1)).publishEvent(PostChangedEvent.deleted(mockedPostEntity));
     }
 
     @Test
@@ -249,11 +539,25 @@ public class PostServiceTest {
     void shouldThrowPostNotFoundExceptionWhenDeletingPostWithNonExistingId() {
         String invalidId = "68e0234a70424186e056e45f";
 
-        when(postRepository.findById(invalidId)).thenReturn(Optional.empty());
+        when(postRepository.removeById(invalidId)).thenReturn(Optional.empty());
 
         assertThrows(PostNotFoundException.class, () -> postService.delete(invalidId));
 
-        verify(postRepository, times(1)).findById(invalidId);
-        verify(postRepository, never()).deleteById(invalidId);
+        verify(postRepository, times(1)).removeById(invalidId);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private PostVersion versionOf(Post post) {
+        return new PostVersion() {
+            @Override
+            public String getId() {
+                return post.getId();
+            }
+
+            @Override
+            public Instant getUpdatedAt() {
+                return post.getUpdatedAt();
+            }
+        };
     }
 }
@@ -0,0 +1,166 @@
+package com.laporeon.posts_api.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.laporeon.posts_api.cache.HotPageStore;
+import com.laporeon.posts_api.cache.PostCache;
+import com.laporeon.posts_api.cache.PostLookupFilter;
+import com.laporeon.posts_api.cache.PostReadCoalescer;
+import com.laporeon.posts_api.config.CacheProperties;
+import com.laporeon.posts_api.config.CountProperties;
+import com.laporeon.posts_api.dto.request.PostRequestDTO;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.mappers.PageMapper;
+import com.laporeon.posts_api.mappers.PostMapper;
+import com.laporeon.posts_api.repositories.PostRepository;
+import com.laporeon.posts_api.search.PostSearchIndex;
+import com.laporeon.posts_api.utils.CountMode;
+import com.laporeon.posts_api.utils.PostCursor;
+import com.laporeon.posts_api.utils.PostSortField;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.stubbing.Answer;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PostService virtual thread Tests")
+class PostServiceVirtualThreadTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final Duration REPOSITORY_LATENCY = Duration.ofMillis(20);
+    private static final int CONCURRENT_REQUESTS = 50;
+
+    private PostRepository postRepository;
+
+    private PostService postService;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        post = Post.builder()
+                   .id(new ObjectId().toHexString())
+                   .title("Getting Started with Spring Boot")
+                   .description("A comprehensive guide to building REST APIs with Spring Boot framework.")
+                   .body("Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.")
+                   .createdAt(Instant.now())
+                   .updatedAt(Instant.now())
+                   .build();
+
+        postRepository = mock(PostRepository.class);
+        when(postRepository.save(any(Post.class))).thenAnswer(slowly(post));
+        when(postRepository.findById(anyString())).thenAnswer(slowly(Optional.of(post)));
+        when(postRepository.findAllBy(any(Pageable.class))).thenAnswer(invocation -> {
+            Thread.sleep(REPOSITORY_LATENCY);
+            return new SliceImpl<>(List.of(post), invocation.getArgument(0), true);
+        });
+        when(postRepository.findAfter(any(PostCursor.class), anyInt())).thenAnswer(slowly(List.of(post)));
+        when(postRepository.count()).thenAnswer(slowly(100L));
+        when(postRepository.estimatedCount()).thenAnswer(slowly(100L));
+        when(postRepository.updateContent(any(Post.class))).thenAnswer(slowly(Optional.of(post)));
+        when(postRepository.removeById(anyString())).thenAnswer(slowly(Optional.of(post)));
+
+        PostMapper postMapper = new PostMapper();
+        PostCache postCache = new PostCache(
+                new CacheProperties(true, 10, Duration.ofMinutes(5), DataSize.ofKilobytes(64), Duration.ofMinutes(30)),
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+        PostCounter postCounter = new PostCounter(
+                postRepository,
+                new VirtualThreadTaskExecutor("post-counter-"),
+                new CountProperties(Duration.ZERO));
+
+        postService = new PostService(
+                postRepository,
+                postMapper,
+                new PageMapper(postMapper),
+                postCounter,
+                postCache,
+                new PostReadCoalescer(new SimpleMeterRegistry()),
+                mock(HotPageStore.class),
+                mock(PostLookupFilter.class),
+                mock(PostSearchIndex.class),
+                event -> postCache.onPostChanged((PostChangedEvent) event));
+    }
+
+    @Test
+    @DisplayName("Should not pin carrier threads while waiting on the repository")
+    void shouldNotPinCarrierThreadsWhileWaitingOnRepository(@TempDir Path tempDir) throws Exception {
+        Path dump = tempDir.resolve("pinning.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> requests = IntStream.range(0, CONCURRENT_REQUESTS)
+                                                    .<Future<?>>mapToObj(i -> executor.submit(this::exerciseService))
+                                                    .toList();
+                for (Future<?> request : requests) {
+                    request.get();
+                }
+            }
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> pinned = RecordingFile.readAllEvents(dump)
+                                                  .stream()
+                                                  .filter(event -> event.getEventType().getName().equals(PINNED_EVENT))
+                                                  .toList();
+
+        assertThat(pinned).as("pinned virtual threads: %s", pinned).isEmpty();
+    }
+
+    private void exerciseService() {
+        PostRequestDTO dto = new PostRequestDTO(post.getTitle(), post.getDescription(), post.getBody(), post.getAuthor());
+        Pageable pageable = PageRequest.of(0, 10, PostSortField.TITLE.sort(Sort.Direction.ASC));
+
+        postService.create(dto);
+        postService.findById(post.getId());
+        postService.findById(post.getId());
+        postService.findETag(post.getId());
+        postService.listPosts(pageable, CountMode.NONE);
+        postService.listPosts(pageable, CountMode.ESTIMATED);
+        postService.listPosts(pageable, CountMode.EXACT);
+        postService.listPosts(PostCursor.first(PostSortField.TITLE, Sort.Direction.ASC), 10);
+        postService.update(post.getId(), dto);
+        postService.delete(post.getId());
+    }
+
+    private static <T> Answer<T> slowly(T result) {
+        return invocation -> {
+            Thread.sleep(REPOSITORY_LATENCY);
+            return result;
+        };
+    }
+}
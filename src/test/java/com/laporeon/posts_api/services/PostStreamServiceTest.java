@@ -0,0 +1,239 @@
+package com.laporeon.posts_api.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.laporeon.posts_api.config.StreamProperties;
+import com.laporeon.posts_api.config.StreamProperties.OverflowPolicy;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.mappers.PostMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostStreamService Tests")
+class PostStreamServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private MeterRegistry meterRegistry;
+
+    private PostStreamService postStreamService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postStreamService.close();
+    }
+
+    @Test
+    @DisplayName("Should push changes to subscribers and replay missed events after the Last-Event-ID")
+    void shouldPushChangesAndReplayMissedEventsAfterLastEventId() throws Exception {
+        postStreamService = service(8, OverflowPolicy.DISCONNECT, 16);
+        RecordingEmitter live = new RecordingEmitter();
+        postStreamService.subscribe(null, live);
+
+        Post first = post();
+        postStreamService.onPostChanged(PostChangedEvent.created(first));
+        postStreamService.onPostChanged(PostChangedEvent.updated(first));
+        postStreamService.onPostChanged(PostChangedEvent.deleted(first.getId()));
+        awaitUntil(() -> live.events().size() == 4);
+
+        assertThat(live.events().getFirst()).startsWith(":connected");
+        assertThat(live.events().get(1)).contains("event:created", "\"id\":\"" + first.getId() + "\"");
+        assertThat(live.events().get(3)).contains("event:deleted", "\"type\":\"DELETED\"").doesNotContain("\"post\"");
+
+        String lastEventId = eventId(live.events().get(1));
+        RecordingEmitter resumed = new RecordingEmitter();
+        postStreamService.subscribe(lastEventId, resumed);
+        awaitUntil(() -> resumed.events().size() == 3);
+
+        assertThat(resumed.events().subList(1, 3)).containsExactlyElementsOf(live.events().subList(2, 4));
+        assertThat(postStreamService.subscriberCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("posts.stream.resumes").tag("outcome", "replayed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should send a reset event when the Last-Event-ID is no longer retained")
+    void shouldSendResetWhenLastEventIdIsNoLongerRetained() throws Exception {
+        postStreamService = service(8, OverflowPolicy.DISCONNECT, 2);
+        RecordingEmitter live = new RecordingEmitter();
+        postStreamService.subscribe(null, live);
+
+        for (int i = 0; i < 4; i++) {
+            postStreamService.onPostChanged(PostChangedEvent.created(post()));
+        }
+        awaitUntil(() -> live.events().size() == 5);
+
+        RecordingEmitter expired = new RecordingEmitter();
+        postStreamService.subscribe(eventId(live.events().get(1)), expired);
+        RecordingEmitter otherEpoch = new RecordingEmitter();
+        postStreamService.subscribe("previous-instance-3", otherEpoch);
+        awaitUntil(() -> expired.events().size() == 2 && otherEpoch.events().size() == 2);
+
+        assertThat(expired.events().get(1)).contains("event:reset");
+        assertThat(otherEpoch.events().get(1)).contains("event:reset");
+        assertThat(meterRegistry.get("posts.stream.resumes").tag("outcome", "reset").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest buffered events of a slow subscriber")
+    void shouldDropOldestBufferedEventsOfSlowSubscriber() throws Exception {
+        postStreamService = service(2, OverflowPolicy.DROP_OLDEST, 16);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        postStreamService.subscribe(null, slow);
+        awaitUntil(() -> slow.sending.getCount() == 0);
+
+        List<Post> posts = List.of(post(), post(), post(), post(), post());
+        posts.forEach(post -> postStreamService.onPostChanged(PostChangedEvent.created(post)));
+        release.countDown();
+        awaitUntil(() -> slow.events().size() == 3);
+
+        assertThat(slow.events().get(1)).contains(posts.get(3).getId());
+        assertThat(slow.events().get(2)).contains(posts.get(4).getId());
+        assertThat(postStreamService.subscriberCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("posts.stream.overflows").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should disconnect a slow subscriber whose buffer overflows")
+    void shouldDisconnectSlowSubscriberWhoseBufferOverflows() throws Exception {
+        postStreamService = service(2, OverflowPolicy.DISCONNECT, 16);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        postStreamService.subscribe(null, slow);
+        awaitUntil(() -> slow.sending.getCount() == 0);
+
+        for (int i = 0; i < 5; i++) {
+            postStreamService.onPostChanged(PostChangedEvent.created(post()));
+        }
+        release.countDown();
+        awaitUntil(() -> slow.completed && slow.events().size() == 1);
+
+        assertThat(postStreamService.subscriberCount()).isZero();
+        assertThat(meterRegistry.get("posts.stream.overflows").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep delivering to healthy subscribers while others are stalled on send")
+    void shouldKeepDeliveringToHealthySubscribersWhileOthersAreStalled() throws Exception {
+        postStreamService = service(8, OverflowPolicy.DISCONNECT, 16);
+        CountDownLatch release = new CountDownLatch(1);
+        List<RecordingEmitter> stalled = List.of(new RecordingEmitter(release), new RecordingEmitter(release),
+                                                 new RecordingEmitter(release), new RecordingEmitter(release));
+        stalled.forEach(emitter -> postStreamService.subscribe(null, emitter));
+        awaitUntil(() -> stalled.stream().allMatch(emitter -> emitter.sending.getCount() == 0));
+
+        RecordingEmitter healthy = new RecordingEmitter();
+        postStreamService.subscribe(null, healthy);
+        postStreamService.onPostChanged(PostChangedEvent.created(post()));
+
+        try {
+            awaitUntil(() -> healthy.events().size() == 2);
+        } finally {
+            release.countDown();
+        }
+        assertThat(healthy.events().get(1)).contains("event:created");
+    }
+
+    private PostStreamService service(int bufferSize, OverflowPolicy overflowPolicy, int replaySize) {
+        return new PostStreamService(
+                new StreamProperties(10, bufferSize, overflowPolicy, replaySize, Duration.ofHours(1), Duration.ofMinutes(1)),
+                new PostMapper(),
+                objectMapper,
+                meterRegistry);
+    }
+
+    private Post post() {
+        Instant now = Instant.now();
+        return Post.builder()
+                   .id(new ObjectId().toHexString())
+                   .title("Getting Started with Spring Boot")
+                   .description("A comprehensive guide to building REST APIs with Spring Boot framework.")
+                   .body("Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.")
+                   .createdAt(now)
+                   .updatedAt(now)
+                   .build();
+    }
+
+    private String eventId(String event) {
+        return event.lines()
+                    .filter(line -> line.startsWith("id:"))
+                    .map(line -> line.substring(3))
+                    .findFirst()
+                    .orElseThrow();
+    }
+
+    private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch release;
+
+        private final CountDownLatch sending = new CountDownLatch(1);
+
+        private volatile boolean completed;
+
+        private RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            sending.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+
+        private List<String> events() {
+            return events;
+        }
+    }
+}
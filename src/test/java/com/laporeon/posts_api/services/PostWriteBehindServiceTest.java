@@ -0,0 +1,259 @@
+package com.laporeon.posts_api.services;
+
+import com.laporeon.posts_api.config.BackgroundThreads;
+import com.laporeon.posts_api.config.WriteBehindProperties;
+import com.laporeon.posts_api.dto.request.PostRequestDTO;
+import com.laporeon.posts_api.dto.response.PostResponseDTO;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.exceptions.WriteQueueFullException;
+import com.laporeon.posts_api.mappers.PostMapper;
+import com.laporeon.posts_api.repositories.PostRepository;
+import com.laporeon.posts_api.repositories.PostWrite;
+import com.laporeon.posts_api.repositories.PostWriteResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostWriteBehindService Tests")
+class PostWriteBehindServiceTest {
+
+    private static final String VALID_TITLE = "Getting Started with Spring Boot";
+    private static final String VALID_DESCRIPTION = "A comprehensive guide to building REST APIs with Spring Boot framework.";
+    private static final String VALID_BODY = "Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.";
+    private static final String VALID_AUTHOR = "laporeon";
+
+    private PostRepository postRepository;
+
+    private ApplicationEventPublisher eventPublisher;
+
+    private MeterRegistry meterRegistry;
+
+    private PostWriteBehindService postWriteBehindService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postWriteBehindService.stop();
+    }
+
+    @Test
+    @DisplayName("Should group commit queued posts and drain the queue on stop")
+    void shouldGroupCommitQueuedPostsAndDrainOnStop() {
+        postWriteBehindService = service(100, 3);
+        when(postRepository.bulkWrite(anyList())).thenReturn(PostWriteResult.of(Map.of()));
+        postWriteBehindService.start();
+
+        List<PostResponseDTO> accepted = List.of(enqueue(), enqueue(), enqueue(), enqueue(), enqueue());
+        postWriteBehindService.stop();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PostWrite>> batches = ArgumentCaptor.forClass(List.class);
+        verify(postRepository, atLeast(2)).bulkWrite(batches.capture());
+        assertThat(batches.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(3));
+        assertThat(batches.getAllValues().stream().flatMap(List::stream).map(write -> write.post().getId()))
+                .containsExactlyElementsOf(accepted.stream().map(PostResponseDTO::id).toList());
+        verify(eventPublisher, times(5)).publishEvent(any(PostChangedEvent.class));
+
+        assertThat(postWriteBehindService.isRunning()).isFalse();
+        assertThat(meterRegistry.get("posts.write.queue.depth").gauge().value()).isZero();
+        assertThat(meterRegistry.get("posts.write.batch.size").summary().totalAmount()).isEqualTo(5);
+        assertThat(meterRegistry.get("posts.write.flush").timer().count()).isEqualTo(batches.getAllValues().size());
+    }
+
+    @Test
+    @DisplayName("Should reject posts when the queue is full or the writer is not running")
+    void shouldRejectPostsWhenQueueIsFullOrWriterIsNotRunning() throws Exception {
+        postWriteBehindService = service(1, 1);
+        assertThatThrownBy(this::enqueue).isInstanceOf(WriteQueueFullException.class);
+
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(postRepository.bulkWrite(anyList())).thenAnswer(invocation -> {
+            flushing.countDown();
+            release.await();
+            return PostWriteResult.of(Map.of());
+        });
+        postWriteBehindService.start();
+
+        enqueue();
+        assertThat(flushing.await(5, TimeUnit.SECONDS)).isTrue();
+        enqueue();
+        assertThatThrownBy(this::enqueue).isInstanceOf(WriteQueueFullException.class);
+
+        release.countDown();
+        postWriteBehindService.stop();
+
+        verify(postRepository, times(2)).bulkWrite(anyList());
+        assertThat(meterRegistry.get("posts.write.rejected").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should count failed writes and only publish events for written posts")
+    void shouldCountFailedWritesAndOnlyPublishEventsForWrittenPosts() {
+        postWriteBehindService = service(100, 10);
+        when(postRepository.bulkWrite(anyList())).thenReturn(new PostWriteResult(Map.of(0, "E11000 duplicate key error"), Set.of(), Set.of(0))).thenReturn(PostWriteResult.of(Map.of()));
+
+        postWriteBehindService.start();
+        enqueue();
+        enqueue();
+        postWriteBehindService.stop();
+
+        assertThat(meterRegistry.get("posts.write.failed").counter().count()).isEqualTo(1);
+        verify(eventPublisher, times(1)).publishEvent(any(PostChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should retry transient failures and treat posts written by an earlier attempt as written")
+    void shouldRetryTransientFailuresAndTreatPostsWrittenByEarlierAttemptAsWritten() {
+        postWriteBehindService = service(100, 10);
+        when(postRepository.bulkWrite(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("connection reset"))
+                .thenReturn(new PostWriteResult(Map.of(0, "E11000 duplicate key error"), Set.of(), Set.of(0)));
+
+        postWriteBehindService.start();
+        enqueue();
+        enqueue();
+        postWriteBehindService.stop();
+
+        verify(postRepository, times(2)).bulkWrite(anyList());
+        verify(eventPublisher, times(2)).publishEvent(any(PostChangedEvent.class));
+        assertThat(meterRegistry.get("posts.write.retried").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("posts.write.failed").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count errors of a retried batch that are not duplicate keys as failed")
+    void shouldCountErrorsOfRetriedBatchThatAreNotDuplicateKeysAsFailed() {
+        postWriteBehindService = service(100, 10);
+        when(postRepository.bulkWrite(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("connection reset"))
+                .thenReturn(PostWriteResult.of(Map.of(0, "Document failed validation")));
+
+        postWriteBehindService.start();
+        enqueue();
+        enqueue();
+        postWriteBehindService.stop();
+
+        verify(eventPublisher, times(1)).publishEvent(any(PostChangedEvent.class));
+        assertThat(meterRegistry.get("posts.write.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count posts still queued when the drain times out as failed")
+    void shouldCountPostsStillQueuedWhenDrainTimesOutAsFailed() throws Exception {
+        postWriteBehindService = service(100, 1, Duration.ofMillis(50));
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(postRepository.bulkWrite(anyList())).thenAnswer(invocation -> {
+            flushing.countDown();
+            release.await();
+            return PostWriteResult.of(Map.of());
+        });
+        postWriteBehindService.start();
+
+        try {
+            enqueue();
+            assertThat(flushing.await(5, TimeUnit.SECONDS)).isTrue();
+            enqueue();
+            enqueue();
+            postWriteBehindService.stop();
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(meterRegistry.get("posts.write.failed").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("posts.write.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should give up on non retryable failures and keep draining when a listener throws")
+    void shouldGiveUpOnNonRetryableFailuresAndKeepDrainingWhenListenerThrows() throws Exception {
+        postWriteBehindService = service(100, 1);
+        CountDownLatch published = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            published.countDown();
+            throw new IllegalStateException("listener failed");
+        }).when(eventPublisher).publishEvent(any(PostChangedEvent.class));
+        when(postRepository.bulkWrite(anyList()))
+                .thenThrow(new DataIntegrityViolationException("document too large"))
+                .thenReturn(PostWriteResult.of(Map.of()));
+
+        postWriteBehindService.start();
+        enqueue();
+        enqueue();
+        enqueue();
+        assertThat(published.await(5, TimeUnit.SECONDS)).isTrue();
+        postWriteBehindService.stop();
+
+        verify(postRepository, times(3)).bulkWrite(anyList());
+        assertThat(meterRegistry.get("posts.write.failed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("posts.write.retried").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the accepted creation time and stamp the update time when the batch is written")
+    void shouldKeepAcceptedCreationTimeAndStampUpdateTimeWhenBatchIsWritten() {
+        postWriteBehindService = service(100, 10);
+        when(postRepository.bulkWrite(anyList())).thenReturn(PostWriteResult.of(Map.of()));
+        postWriteBehindService.start();
+
+        PostResponseDTO response = enqueue();
+        Instant accepted = Instant.now();
+        postWriteBehindService.stop();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PostWrite>> batches = ArgumentCaptor.forClass(List.class);
+        verify(postRepository).bulkWrite(batches.capture());
+        assertThat(batches.getValue()).singleElement().satisfies(write -> {
+            assertThat(write.post().getUpdatedAt()).isAfter(accepted);
+            assertThat(write.post().getCreatedAt()).isEqualTo(response.createdAt());
+        });
+    }
+
+    private PostResponseDTO enqueue() {
+        return postWriteBehindService.enqueue(new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, VALID_AUTHOR));
+    }
+
+    private PostWriteBehindService service(int capacity, int maxBatchSize) {
+        return service(capacity, maxBatchSize, Duration.ofSeconds(5));
+    }
+
+    private PostWriteBehindService service(int capacity, int maxBatchSize, Duration drainTimeout) {
+        return new PostWriteBehindService(
+                postRepository,
+                new PostMapper(),
+                eventPublisher,
+                new WriteBehindProperties(true, capacity, maxBatchSize, Duration.ofMillis(50), drainTimeout,
+                                          3, Duration.ofMillis(1), Duration.ofMillis(5)),
+                new BackgroundThreads(new MockEnvironment()),
+                meterRegistry);
+    }
+}
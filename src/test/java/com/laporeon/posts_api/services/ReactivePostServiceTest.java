@@ -0,0 +1,182 @@
+package com.laporeon.posts_api.services;
+
+import com.laporeon.posts_api.dto.request.PostRequestDTO;
+import com.laporeon.posts_api.entities.Post;
+import com.laporeon.posts_api.events.PostChangedEvent;
+import com.laporeon.posts_api.exceptions.PostNotFoundException;
+import com.laporeon.posts_api.mappers.PageMapper;
+import com.laporeon.posts_api.mappers.PostMapper;
+import com.laporeon.posts_api.repositories.ReactivePostRepository;
+import com.laporeon.posts_api.utils.CountMode;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactivePostService Tests")
+class ReactivePostServiceTest {
+
+    @Mock
+    private ReactivePostRepository reactivePostRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ReactivePostService reactivePostService;
+
+    private static final String VALID_TITLE = "Getting Started with Spring Boot";
+    private static final String VALID_DESCRIPTION = "A comprehensive guide to building REST APIs with Spring Boot framework.";
+    private static final String VALID_BODY = "Spring Boot makes it easy to create stand-alone, production-grade Spring based Applications.";
+    private static final String VALID_AUTHOR = "laporeon";
+
+    private Post mockedPostEntity;
+
+    @BeforeEach
+    void setUp() {
+        PostMapper postMapper = new PostMapper();
+        reactivePostService = new ReactivePostService(reactivePostRepository, postMapper, new PageMapper(postMapper), eventPublisher);
+
+        mockedPostEntity = post(new ObjectId().toHexString());
+    }
+
+    @Test
+    @DisplayName("Should save Post successfully when given valid request data")
+    void shouldSavePostSuccessfullyWhenGivenRequestData() {
+        when(reactivePostRepository.save(any(Post.class))).thenReturn(Mono.just(mockedPostEntity));
+
+        StepVerifier.create(reactivePostService.create(new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, VALID_AUTHOR)))
+                    .assertNext(post -> assertThat(post.id()).isEqualTo(mockedPostEntity.getId()))
+                    .verifyComplete();
+
+        verify(eventPublisher).publishEvent(PostChangedEvent.created(mockedPostEntity));
+    }
+
+    @Test
+    @DisplayName("Should return slice without counting when count mode is none")
+    void shouldReturnSliceWithoutCountingWhenCountModeIsNone() {
+        Pageable pageable = PageRequest.of(0, 2);
+
+        when(reactivePostRepository.findSlice(pageable)).thenReturn(posts(3));
+
+        StepVerifier.create(reactivePostService.listPosts(pageable, CountMode.NONE))
+                    .assertNext(page -> {
+                        assertThat(page.content()).hasSize(2);
+                        assertThat(page.isLastPage()).isFalse();
+                        assertThat(page.totalElements()).isNull();
+                    })
+                    .verifyComplete();
+
+        verify(reactivePostRepository, never()).count();
+        verify(reactivePostRepository, never()).estimatedCount();
+    }
+
+    @Test
+    @DisplayName("Should use exact total when count mode is exact")
+    void shouldUseExactTotalWhenCountModeIsExact() {
+        Pageable pageable = PageRequest.of(0, 2);
+
+        when(reactivePostRepository.findSlice(pageable)).thenReturn(posts(3));
+        when(reactivePostRepository.count()).thenReturn(Mono.just(7L));
+
+        StepVerifier.create(reactivePostService.listPosts(pageable, CountMode.EXACT))
+                    .assertNext(page -> {
+                        assertThat(page.totalElements()).isEqualTo(7L);
+                        assertThat(page.totalPages()).isEqualTo(4);
+                    })
+                    .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should derive total from the last page when count mode is estimated")
+    void shouldDeriveTotalFromLastPageWhenCountModeIsEstimated() {
+        Pageable pageable = PageRequest.of(1, 2);
+
+        when(reactivePostRepository.findSlice(pageable)).thenReturn(posts(1));
+        when(reactivePostRepository.estimatedCount()).thenReturn(Mono.just(10L));
+
+        StepVerifier.create(reactivePostService.listPosts(pageable, CountMode.ESTIMATED))
+                    .assertNext(page -> {
+                        assertThat(page.totalElements()).isEqualTo(3L);
+                        assertThat(page.isLastPage()).isTrue();
+                    })
+                    .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should error with PostNotFoundException when id does not exist")
+    void shouldErrorWithPostNotFoundExceptionWhenIdDoesNotExist() {
+        when(reactivePostRepository.findById("missing")).thenReturn(Mono.empty());
+
+        StepVerifier.create(reactivePostService.findById("missing"))
+                    .expectError(PostNotFoundException.class)
+                    .verify();
+    }
+
+    @Test
+    @DisplayName("Should update post content in a single round trip")
+    void shouldUpdatePostContentInSingleRoundTrip() {
+        when(reactivePostRepository.updateContent(any(Post.class))).thenReturn(Mono.just(mockedPostEntity));
+
+        StepVerifier.create(reactivePostService.update(mockedPostEntity.getId(), new PostRequestDTO(VALID_TITLE, VALID_DESCRIPTION, VALID_BODY, VALID_AUTHOR)))
+                    .assertNext(post -> assertThat(post.title()).isEqualTo(VALID_TITLE))
+                    .verifyComplete();
+
+        verify(reactivePostRepository, never()).findById(any(String.class));
+        verify(eventPublisher).publishEvent(PostChangedEvent.updated(mockedPostEntity));
+    }
+
+    @Test
+    @DisplayName("Should publish deleted event when post is removed")
+    void shouldPublishDeletedEventWhenPostIsRemoved() {
+        when(reactivePostRepository.removeById(mockedPostEntity.getId())).thenReturn(Mono.just(mockedPostEntity));
+
+        StepVerifier.create(reactivePostService.delete(mockedPostEntity.getId()))
+                    .verifyComplete();
+
+        verify(eventPublisher).publishEvent(PostChangedEvent.deleted(mockedPostEntity));
+    }
+
+    @Test
+    @DisplayName("Should error with PostNotFoundException when deleting post with non existing id")
+    void shouldErrorWithPostNotFoundExceptionWhenDeletingNonExistingPost() {
+        when(reactivePostRepository.removeById("missing")).thenReturn(Mono.empty());
+
+        StepVerifier.create(reactivePostService.delete("missing"))
+                    .expectError(PostNotFoundException.class)
+                    .verify();
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private Flux<Post> posts(int count) {
+        return Flux.fromStream(IntStream.range(0, count).mapToObj(i -> post(new ObjectId().toHexString())));
+    }
+
+    private Post post(String id) {
+        return Post.builder()
+                   .id(id)
+                   .title(VALID_TITLE)
+                   .description(VALID_DESCRIPTION)
+                   .body(VALID_BODY)
+                   .createdAt(Instant.now())
+                   .updatedAt(Instant.now())
+                   .build();
+    }
+}